@@ -0,0 +1,33 @@
+package me.blvckbytes.bblibconfig;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  A section of typical shape to benchmark mapping with, which declares
+  a final field as well, as those are bound through reflection.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class BenchmarkSection extends AConfigSection {
+
+  private ConfigValue title;
+  private ConfigValue lore;
+  private int amount;
+  private boolean enabled;
+  private final List<String> tags = new ArrayList<>();
+}
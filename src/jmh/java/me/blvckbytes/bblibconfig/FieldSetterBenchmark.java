@@ -0,0 +1,112 @@
+package me.blvckbytes.bblibconfig;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  Compares setting the fields of a section through the setter handles of it's
+  mapping plan against Field.set, which ConfigReader used before plans existed,
+  both for all fields and for the final field, which is bound to Field.set.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FieldSetterBenchmark {
+
+  private BenchmarkSection target;
+  private List<FieldBinding> bindings;
+  private Object[] values;
+
+  // Binding of the final field
+  private FieldBinding finalBinding;
+  private Object finalValue;
+
+  @Setup
+  public void setup() {
+    target = new BenchmarkSection();
+    bindings = MappingPlan.of(BenchmarkSection.class).getBindings();
+    values = new Object[bindings.size()];
+
+    for (int i = 0; i < values.length; i++) {
+      FieldBinding binding = bindings.get(i);
+      values[i] = valueFor(binding.getType());
+
+      if (binding.getName().equals("tags")) {
+        finalBinding = binding;
+        finalValue = values[i];
+      }
+    }
+  }
+
+  @Benchmark
+  public BenchmarkSection handles() throws Exception {
+    for (int i = 0; i < values.length; i++)
+      bindings.get(i).set(target, values[i]);
+
+    return target;
+  }
+
+  @Benchmark
+  public BenchmarkSection reflection() throws Exception {
+    for (int i = 0; i < values.length; i++)
+      bindings.get(i).getField().set(target, values[i]);
+
+    return target;
+  }
+
+  @Benchmark
+  public BenchmarkSection finalHandle() throws Exception {
+    finalBinding.set(target, finalValue);
+    return target;
+  }
+
+  @Benchmark
+  public BenchmarkSection finalReflection() throws Exception {
+    finalBinding.getField().set(target, finalValue);
+    return target;
+  }
+
+  //=========================================================================//
+  //                                Utilities                                //
+  //=========================================================================//
+
+  /**
+   * Create a value which is assignable to a field of the benchmarked section
+   * @param type Type of the field
+   * @return Value to assign
+   */
+  private Object valueFor(Class<?> type) {
+    if (type == int.class)
+      return 5;
+
+    if (type == boolean.class)
+      return true;
+
+    if (type == List.class)
+      return new ArrayList<>(List.of("first", "second"));
+
+    return new ConfigValue("value", null, null);
+  }
+}
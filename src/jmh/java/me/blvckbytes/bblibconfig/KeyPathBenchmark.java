@@ -0,0 +1,130 @@
+package me.blvckbytes.bblibconfig;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  Compares resolving keys through compiled key paths against the regex
+  based lookup which YamlConfig used before keys were compiled.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KeyPathBenchmark {
+
+  // Keys as they're typically requested by plugins, plain as well as indexed
+  private static final String[] KEYS = {
+    "prefix",
+    "messages.no_permission",
+    "database.pool.max_size",
+    "items[2].name",
+    "menus.main.slots[4].lore[1]",
+    "messages.missing_key",
+  };
+
+  private Map<String, Object> root;
+
+  @Setup
+  public void setup() {
+    root = new LinkedHashMap<>();
+    root.put("prefix", "&7[&bPlugin&7] ");
+    root.put("messages", Map.of("no_permission", "No permission"));
+    root.put("database", Map.of("pool", Map.of("max_size", 10)));
+
+    List<Object> items = new ArrayList<>();
+    for (int i = 0; i < 5; i++)
+      items.add(Map.of("name", "item" + i));
+    root.put("items", items);
+
+    List<Object> slots = new ArrayList<>();
+    for (int i = 0; i < 9; i++)
+      slots.add(Map.of("lore", List.of("first", "second")));
+    root.put("menus", Map.of("main", Map.of("slots", slots)));
+  }
+
+  @Benchmark
+  public void compiled(Blackhole bh) {
+    for (String key : KEYS)
+      bh.consume(KeyPath.of(key).resolve(root));
+  }
+
+  @Benchmark
+  public void regex(Blackhole bh) {
+    for (String key : KEYS)
+      bh.consume(retrieveRegex(key));
+  }
+
+  //=========================================================================//
+  //                                Utilities                                //
+  //=========================================================================//
+
+  /**
+   * The lookup of keys as it was implemented before keys were compiled,
+   * where plain keys only paid for the check whether they're indexed
+   * @param key Key to resolve
+   * @return Resolved value, null if unresolvable
+   */
+  private Object retrieveRegex(String key) {
+    Object obj = root;
+    boolean indexed = key.matches("(.*)\\[\\d+\\](.*)");
+
+    for (String level : key.split("\\.")) {
+      Integer i = null;
+
+      if (indexed && level.matches("(.*)\\[\\d+\\]$")) {
+        String index = level.substring(level.indexOf('[') + 1, level.indexOf(']'));
+        level = level.substring(0, level.indexOf('['));
+
+        try {
+          i = Integer.parseInt(index);
+        } catch (NumberFormatException e) {
+          return null;
+        }
+      }
+
+      if (!(obj instanceof Map<?, ?>))
+        return null;
+
+      obj = ((Map<?, ?>) obj).get(level);
+
+      if (i != null) {
+        if (!(obj instanceof List<?>))
+          return null;
+
+        List<?> l = (List<?>) obj;
+
+        if (i < 0 || i >= l.size())
+          return null;
+
+        obj = l.get(i);
+      }
+
+      if (obj == null)
+        return null;
+    }
+
+    return obj;
+  }
+}
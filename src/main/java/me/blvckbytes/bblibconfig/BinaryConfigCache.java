@@ -0,0 +1,365 @@
+package me.blvckbytes.bblibconfig;
+
+import org.bukkit.configuration.MemorySection;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  Stores parsed config trees in a compact binary format, keyed by the content
+  hash of their source file, which allows to skip yaml parsing entirely for
+  files which didn't change since they've last been cached.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class BinaryConfigCache {
+
+  // Marks the start of a cache file, "BBCC"
+  private static final int MAGIC = 0x42424343;
+
+  // Version of the format, bump on any change to invalidate old files
+  private static final byte VERSION = 1;
+
+  // Length of content hashes in bytes
+  private static final int HASH_LENGTH = 32;
+
+  // Node tags
+  private static final byte
+    T_NULL = 0, T_STRING = 1, T_INT = 2, T_LONG = 3, T_DOUBLE = 4,
+    T_BOOLEAN = 5, T_DATE = 6, T_LIST = 7, T_MAP = 8;
+
+  private final File folder;
+
+  /**
+   * Create a new cache which stores it's files within a given folder
+   * @param folder Folder to store cache files in
+   */
+  public BinaryConfigCache(File folder) {
+    this.folder = folder;
+  }
+
+  //=========================================================================//
+  //                                   API                                   //
+  //=========================================================================//
+
+  /**
+   * Compute the content hash of a source file's contents
+   * @param content Contents of the source file
+   * @return Hash of the contents
+   */
+  public static byte[] hash(byte[] content) {
+    return newDigest().digest(content);
+  }
+
+  /**
+   * Compute the content hash of a stream's contents, without reading them into memory as a whole
+   * @param is Stream to read until it's end, which is not closed
+   * @return Hash of the contents
+   */
+  public static byte[] hash(InputStream is) throws IOException {
+    MessageDigest digest = newDigest();
+    byte[] buffer = new byte[8192];
+
+    for (int read; (read = is.read(buffer)) >= 0;)
+      digest.update(buffer, 0, read);
+
+    return digest.digest();
+  }
+
+  /**
+   * Read a cached config, if it's cache file exists and matches the provided hash
+   * @param path Path of the config (no leading slash, no .yml)
+   * @param hash Content hash of the current source file
+   * @return Configuration on a cache hit, empty otherwise
+   */
+  public Optional<YamlConfiguration> read(String path, byte[] hash) {
+    File file = cacheFile(path);
+
+    // Not yet cached
+    if (!file.isFile())
+      return Optional.empty();
+
+    try {
+      // Read onto the heap instead of mapping, as mapped files stay locked on some
+      // platforms until collected, which would block replacing them when re-writing
+      ByteBuffer buf = ByteBuffer.wrap(Files.readAllBytes(file.toPath()));
+
+      // Not a cache file of this version
+      if (buf.getInt() != MAGIC || buf.get() != VERSION)
+        return Optional.empty();
+
+      byte[] cachedHash = new byte[HASH_LENGTH];
+      buf.get(cachedHash);
+
+      // Source file changed since it's been cached
+      if (!Arrays.equals(cachedHash, hash))
+        return Optional.empty();
+
+      YamlConfiguration cfg = new YamlConfiguration();
+
+      String header = (String) readNode(buf);
+      if (header != null)
+        cfg.options().header(header);
+
+      Map<?, ?> root = (Map<?, ?>) readNode(buf);
+      for (Map.Entry<?, ?> entry : root.entrySet()) {
+        String key = entry.getKey().toString();
+        Object value = entry.getValue();
+
+        // Maps are turned into sections, just like when loading from yaml
+        if (value instanceof Map<?, ?>)
+          cfg.createSection(key, (Map<?, ?>) value);
+        else
+          cfg.set(key, value);
+      }
+
+      return Optional.of(cfg);
+    }
+
+    // Corrupted or unreadable, fall back to yaml
+    catch (Exception e) {
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Write a config into the cache, where configs containing values which are
+   * not representable in the binary format are silently skipped
+   * @param path Path of the config (no leading slash, no .yml)
+   * @param hash Content hash of the source file the config has been parsed from
+   * @param cfg Parsed configuration
+   */
+  public void write(String path, byte[] hash, YamlConfiguration cfg) {
+    File file = cacheFile(path);
+
+    try {
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      DataOutputStream out = new DataOutputStream(bytes);
+
+      out.writeInt(MAGIC);
+      out.writeByte(VERSION);
+      out.write(hash);
+      writeNode(out, cfg.options().header());
+      writeNode(out, cfg);
+      out.flush();
+
+      if (!file.getParentFile().exists() && !file.getParentFile().mkdirs())
+        return;
+
+      // Write into a temporary file first, so that no partial cache files can exist
+      ConfigWriter.writeAtomically(file.toPath(), bytes.toByteArray());
+    }
+
+    // Not representable or not writable, the file will just be parsed from yaml again
+    catch (Exception e) {
+      try {
+        Files.deleteIfExists(file.toPath());
+      } catch (IOException ignored) {}
+    }
+  }
+
+  //=========================================================================//
+  //                                Utilities                                //
+  //=========================================================================//
+
+  /**
+   * Create a new digest which computes content hashes
+   */
+  private static MessageDigest newDigest() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      // Every java platform is required to support SHA-256
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Get the cache file of a config path
+   * @param path Path of the config (no leading slash, no .yml)
+   */
+  private File cacheFile(String path) {
+    return new File(folder, path + ".bin");
+  }
+
+  /**
+   * Write a node as well as all of it's children
+   * @param out Output to write to
+   * @param node Node to write
+   */
+  private void writeNode(DataOutputStream out, @Nullable Object node) throws IOException {
+    if (node == null) {
+      out.writeByte(T_NULL);
+      return;
+    }
+
+    if (node instanceof String) {
+      out.writeByte(T_STRING);
+      writeString(out, (String) node);
+      return;
+    }
+
+    if (node instanceof Integer) {
+      out.writeByte(T_INT);
+      out.writeInt((Integer) node);
+      return;
+    }
+
+    if (node instanceof Long) {
+      out.writeByte(T_LONG);
+      out.writeLong((Long) node);
+      return;
+    }
+
+    if (node instanceof Double) {
+      out.writeByte(T_DOUBLE);
+      out.writeDouble((Double) node);
+      return;
+    }
+
+    if (node instanceof Boolean) {
+      out.writeByte(T_BOOLEAN);
+      out.writeBoolean((Boolean) node);
+      return;
+    }
+
+    if (node instanceof Date) {
+      out.writeByte(T_DATE);
+      out.writeLong(((Date) node).getTime());
+      return;
+    }
+
+    if (node instanceof List<?>) {
+      List<?> items = (List<?>) node;
+      out.writeByte(T_LIST);
+      out.writeInt(items.size());
+
+      for (Object item : items)
+        writeNode(out, item);
+
+      return;
+    }
+
+    // Sections are stored just like maps
+    if (node instanceof MemorySection)
+      node = ((MemorySection) node).getValues(false);
+
+    if (node instanceof Map<?, ?>) {
+      Map<?, ?> entries = (Map<?, ?>) node;
+      out.writeByte(T_MAP);
+      out.writeInt(entries.size());
+
+      for (Map.Entry<?, ?> entry : entries.entrySet()) {
+        writeNode(out, entry.getKey());
+        writeNode(out, entry.getValue());
+      }
+
+      return;
+    }
+
+    throw new IllegalArgumentException("Cannot represent value of type " + node.getClass());
+  }
+
+  /**
+   * Read a node as well as all of it's children
+   * @param buf Buffer to read from
+   * @return Read node
+   */
+  private @Nullable Object readNode(ByteBuffer buf) {
+    byte tag = buf.get();
+
+    switch (tag) {
+      case T_NULL:
+        return null;
+
+      case T_STRING:
+        return readString(buf);
+
+      case T_INT:
+        return buf.getInt();
+
+      case T_LONG:
+        return buf.getLong();
+
+      case T_DOUBLE:
+        return buf.getDouble();
+
+      case T_BOOLEAN:
+        return buf.get() != 0;
+
+      case T_DATE:
+        return new Date(buf.getLong());
+
+      case T_LIST: {
+        int size = buf.getInt();
+        List<Object> items = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++)
+          items.add(readNode(buf));
+
+        return items;
+      }
+
+      case T_MAP: {
+        int size = buf.getInt();
+        Map<Object, Object> entries = new LinkedHashMap<>();
+
+        for (int i = 0; i < size; i++) {
+          Object key = readNode(buf);
+          entries.put(key, readNode(buf));
+        }
+
+        return entries;
+      }
+
+      default:
+        throw new IllegalStateException("Unknown node tag " + tag);
+    }
+  }
+
+  /**
+   * Write a length-prefixed UTF-8 string
+   * @param out Output to write to
+   * @param value String to write
+   */
+  private void writeString(DataOutputStream out, String value) throws IOException {
+    byte[] data = value.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(data.length);
+    out.write(data);
+  }
+
+  /**
+   * Read a length-prefixed UTF-8 string
+   * @param buf Buffer to read from
+   */
+  private String readString(ByteBuffer buf) {
+    byte[] data = new byte[buf.getInt()];
+    buf.get(data);
+    return new String(data, StandardCharsets.UTF_8);
+  }
+}
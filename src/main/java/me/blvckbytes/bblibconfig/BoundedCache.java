@@ -0,0 +1,92 @@
+package me.blvckbytes.bblibconfig;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  A thread-safe cache of a bounded size, which is flushed as a whole once
+  the bound is exceeded. It's meant for keys which are mostly static, like
+  config keys, config strings or constant names, where flushing only happens
+  in rare cases and thus keeps the bound simple without having to track usage.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class BoundedCache<K, V> {
+
+  // Maximum number of cached entries
+  private final int maxEntries;
+
+  private final Map<K, V> entries;
+
+  /**
+   * Create a new, empty cache
+   * @param maxEntries Maximum number of entries to keep before flushing
+   */
+  public BoundedCache(int maxEntries) {
+    if (maxEntries <= 0)
+      throw new IllegalArgumentException("The maximum number of entries has to be positive");
+
+    this.maxEntries = maxEntries;
+    this.entries = new ConcurrentHashMap<>();
+  }
+
+  //=========================================================================//
+  //                                   API                                   //
+  //=========================================================================//
+
+  /**
+   * Get a cached value
+   * @param key Key of the value
+   * @return Cached value, null on a cache miss
+   */
+  public @Nullable V get(K key) {
+    return entries.get(key);
+  }
+
+  /**
+   * Get a cached value or compute and cache it on a cache miss. The value is
+   * computed without holding any locks, so concurrent misses of the same key
+   * may compute it more than once, which requires computations to be pure.
+   * @param key Key of the value
+   * @param compute Computes the value of a key, may not yield null
+   * @return Cached or computed value
+   */
+  public V computeIfAbsent(K key, Function<K, V> compute) {
+    V res = entries.get(key);
+
+    if (res != null)
+      return res;
+
+    res = compute.apply(key);
+
+    if (entries.size() >= maxEntries)
+      entries.clear();
+
+    entries.put(key, res);
+    return res;
+  }
+
+  /**
+   * Get the number of currently cached entries
+   */
+  public int size() {
+    return entries.size();
+  }
+}
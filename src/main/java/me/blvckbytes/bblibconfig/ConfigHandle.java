@@ -0,0 +1,47 @@
+package me.blvckbytes.bblibconfig;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  Represents a loaded config file, consisting of it's in-memory
+  configuration, the underlying file, the index of it's keys
+  and the hash of the file's contents.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+@Getter
+@AllArgsConstructor
+public class ConfigHandle {
+
+  // In-memory configuration
+  private final YamlConfiguration config;
+
+  // File the configuration has been loaded from
+  private final File file;
+
+  // Index of all keys within the configuration, null for lazily loaded configurations
+  private final @Nullable PathIndex index;
+
+  // Content hash of the file at the time it has been loaded
+  private final byte[] hash;
+
+}
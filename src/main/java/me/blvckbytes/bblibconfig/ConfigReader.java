@@ -4,13 +4,18 @@ import com.google.common.primitives.Primitives;
 import me.blvckbytes.bblibconfig.expressions.IExpressionEvaluator;
 import me.blvckbytes.bblibconfig.sections.*;
 import me.blvckbytes.bblibutil.logger.ILogger;
-import org.bukkit.configuration.MemorySection;
+import org.bukkit.configuration.ConfigurationSection;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Array;
-import java.lang.reflect.Field;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
 
 /*
   Author: BlvckBytes <blvckbytes@gmail.com>
@@ -34,11 +39,26 @@ import java.util.stream.Collectors;
 */
 public class ConfigReader implements ILutResolver {
 
+  // Upper bound of cached parse results per reader
+  private static final int MAX_CACHED_VALUES = 4096;
+
+  // Number of elements a list or map needs to have to be mapped in parallel
+  private static final int PARALLEL_THRESHOLD = 64;
+
+  // Converters of section keys into map key types, resolved once per type
+  private static final Map<Class<?>, Function<String, Object>> keyConverters = new ConcurrentHashMap<>();
+
   private final IConfig cfg;
   private final String path;
   private final IExpressionEvaluator evaluator;
   private final @Nullable ILogger logger;
-  private final Map<String, Object> parseCache;
+  private final ParseCache parseCache;
+
+  // Pool to map large lists and maps on, null means sequential mapping
+  private volatile @Nullable ForkJoinPool parallelPool;
+
+  // Listeners which are notified about changed keys after a refresh
+  private final List<Consumer<Set<String>>> changeListeners;
 
   public ConfigReader(
     IConfig cfg, String path,
@@ -49,7 +69,8 @@ public class ConfigReader implements ILutResolver {
     this.path = path;
     this.evaluator = evaluator;
     this.logger = logger;
-    this.parseCache = new HashMap<>();
+    this.parseCache = new ParseCache(MAX_CACHED_VALUES);
+    this.changeListeners = new CopyOnWriteArrayList<>();
   }
 
   //=========================================================================//
@@ -65,31 +86,97 @@ public class ConfigReader implements ILutResolver {
    */
   @SuppressWarnings("unchecked")
   public<T> Optional<T> parseValue(@Nullable String key, Class<T> type, boolean cache) {
-    if (cache && parseCache.containsKey(key))
-      return Optional.of((T) parseCache.get(key));
+    // The cache doesn't support null keys, use the equivalent empty key
+    String cacheKey = key == null ? "" : key;
 
-    return parseValueSub(key, type, null, false, false)
+    if (cache) {
+      Object cached = parseCache.get(cacheKey, type);
+      if (cached != null)
+        return Optional.of((T) cached);
+    }
+
+    // Read before resolving, so that results of an outdated tree are never cached
+    long generation = parseCache.getGeneration();
+
+    return parseUncached(cacheKey, type)
       .map(v -> {
         if (cache)
-          parseCache.put(key, v);
+          parseCache.put(cacheKey, type, v, generation);
         return v;
       });
   }
 
   /**
-   * Recursive sub-routine with extra parameters
+   * Parse multiple keys at once, where the tree is only walked once for all keys,
+   * so that keys which share a common prefix only resolve that prefix once. Keys are
+   * parsed in the iteration order of the requests, which the results retain, so pass
+   * an ordered map (like a {@link LinkedHashMap}) if that order matters.
+   * @param requests Mapping keys to the types to parse them into, empty keys mean top level
+   * @param cache Whether to use and fill the cache of parse results
+   * @return Bundle of all parsed values and their timings
+   * @throws IllegalArgumentException A key or it's type is null
+   */
+  public ParseResults parseAll(Map<String, Class<?>> requests, boolean cache) {
+    // Validate up front, so that no keys are parsed for invalid requests
+    for (Map.Entry<String, Class<?>> request : requests.entrySet()) {
+      if (request.getKey() == null)
+        throw new IllegalArgumentException("Cannot parse a null key, use the empty key for the top level");
+
+      if (request.getValue() == null)
+        throw new IllegalArgumentException("Cannot parse key " + request.getKey() + " into a null type");
+    }
+
+    Map<String, Object> values = new LinkedHashMap<>();
+    Map<String, Long> timings = new LinkedHashMap<>();
+
+    // Read before resolving, so that results of an outdated tree are never cached
+    long generation = parseCache.getGeneration();
+
+    // Nodes of all already resolved prefixes, where missing nodes are stored as null
+    Map<String, Object> nodes = new HashMap<>();
+    nodes.put("", cfg.resolve(path, "").orElse(null));
+
+    for (Map.Entry<String, Class<?>> request : requests.entrySet()) {
+      long start = System.nanoTime();
+
+      String key = request.getKey();
+      Class<?> type = request.getValue();
+      Object value = cache ? parseCache.get(key, type) : null;
+
+      if (value == null) {
+        value = parseValueSub(key, resolveShared(key, nodes), type, null, false, false).orElse(null);
+
+        if (cache && value != null)
+          parseCache.put(key, type, value, generation);
+      }
+
+      if (value != null)
+        values.put(key, value);
+
+      timings.put(key, System.nanoTime() - start);
+    }
+
+    return new ParseResults(values, timings);
+  }
+
+  /**
+   * Recursive sub-routine with extra parameters, which parses an already resolved node
    */
   @SuppressWarnings("unchecked")
-  private<T> Optional<T> parseValueSub(@Nullable String key, Class<T> type, Field f, boolean withinArray, boolean ignoreMissing) {
+  private<T> Optional<T> parseValueSub(@Nullable String key, @Nullable Object node, Class<T> type, @Nullable FieldBinding f, boolean withinArray, boolean ignoreMissing) {
     boolean isSection = AConfigSection.class.isAssignableFrom(type);
 
     // Null keys mean root level scope
     String cKey = key == null ? "" : key;
 
+    // Classify the node once, all following decisions are based on it's kind
+    NodeKind kind = NodeKind.of(node);
+
     // Data type supports expressions and the marker exists as a child of the current key
-    String expressionKey = join(cKey, ExpressionSection.MARKER);
-    if (cfg.exists(path, expressionKey) && type == ConfigValue.class) {
-      Optional<ExpressionSection> expression = parseValueSub(expressionKey, ExpressionSection.class, f, withinArray, ignoreMissing);
+    if (kind == NodeKind.EXPRESSION && type == ConfigValue.class) {
+      String expressionKey = join(cKey, ExpressionSection.MARKER);
+      Object expressionNode = child(node, ExpressionSection.MARKER);
+      Optional<ExpressionSection> expression = parseValueSub(expressionKey, expressionNode, ExpressionSection.class, f, withinArray, ignoreMissing);
 
       // Expression has been properly notated
       if (expression.isPresent())
@@ -98,7 +185,7 @@ public class ConfigReader implements ILutResolver {
 
     if (
       // Does not exist
-      !cfg.exists(path, cKey) &&
+      kind == NodeKind.MISSING &&
       // And is either within an array (missing = stop condition), or missing is not being ignored
       (!ignoreMissing || withinArray)
     )
@@ -106,7 +193,7 @@ public class ConfigReader implements ILutResolver {
 
     // Is a map, parse all keys of this section
     if (Map.class.isAssignableFrom(type)) {
-      CSMap kvInfo = f == null ? null : f.getAnnotation(CSMap.class);
+      CSMap kvInfo = f == null ? null : f.getMapInfo();
       Map<Object, Object> items = new HashMap<>();
 
       // If there is either no annotation present or the
@@ -114,39 +201,67 @@ public class ConfigReader implements ILutResolver {
       Class<?> kC = kvInfo == null ? String.class : kvInfo.k();
       Class<?> vC = kvInfo == null ? String.class : kvInfo.v();
 
-      ConfigValue cv = get(cKey).orElse(null);
-
-      // Value unavailable
-      if (cv == null)
+      // Value unavailable or has no children to map
+      if (!kind.hasChildren())
         return Optional.of(type.cast(items));
 
       // Try to interpret as a map directly
-      Map<?, ?> map = cv.asScalar(Map.class);
-      if (map != null) {
-        map.forEach((k, v) -> {
+      if (node instanceof Map<?, ?>) {
+        Map<?, ?> map = (Map<?, ?>) node;
+        List<?> keys = new ArrayList<>(map.keySet());
+        List<?> children = new ArrayList<>(map.values());
+        List<Optional<?>> values = mapAll(
+          keys.size(),
+          i -> parseValueSub(join(cKey, keys.get(i).toString()), children.get(i), vC, null, false, false),
+          false
+        );
+
+        Function<String, Object> keyConverter = keyConverterOf(kC);
+
+        for (int i = 0; i < keys.size(); i++) {
           // Value type unparsable
-          Object pV = parseValue(join(cKey, k.toString()), vC, false).orElse(null);
+          Object pV = values.get(i).orElse(null);
           if (pV == null)
-            return;
+            continue;
 
-          items.put(kC.cast(k), pV);
-        });
+          // Keys of maps are usually already typed, convert them like section keys otherwise
+          Object k = keys.get(i);
+          Object parsedKey = kC.isInstance(k) ? k : keyConverter.apply(String.valueOf(k));
+
+          // Key type unparsable
+          if (parsedKey == null)
+            continue;
+
+          items.put(parsedKey, pV);
+        }
 
         return Optional.of(type.cast(items));
       }
 
       // Try to interpret as a memory section
-      MemorySection ms = cv.asScalar(MemorySection.class);
-      if (ms != null) {
-        // Iterate all keys of this section
-        for (String msKey : ms.getKeys(false)) {
+      if (node instanceof ConfigurationSection) {
+        // Iterate all direct children of this section
+        Map<String, Object> section = ((ConfigurationSection) node).getValues(false);
+        List<String> keys = new ArrayList<>(section.keySet());
+        List<?> children = new ArrayList<>(section.values());
+        List<Optional<?>> values = mapAll(
+          keys.size(),
+          i -> parseValueSub(join(cKey, keys.get(i)), children.get(i), vC, null, false, false),
+          false
+        );
+
+        Function<String, Object> keyConverter = keyConverterOf(kC);
+
+        for (int i = 0; i < keys.size(); i++) {
+          String msKey = keys.get(i);
+
           // Value type unparsable
-          Object v = parseValue(join(cKey, msKey), vC, false).orElse(null);
+          Object v = values.get(i).orElse(null);
           if (v == null)
             continue;
 
           // Key type unparsable
-          Object parsedKey = ConfigValue.immediate(msKey).asScalar(kC);
+          Object parsedKey = keyConverter.apply(msKey);
           if (parsedKey == null)
             continue;
 
@@ -161,16 +276,23 @@ public class ConfigReader implements ILutResolver {
     if (type.isArray() || List.class.isAssignableFrom(type)) {
       Class<?> arrType = type.getComponentType();
 
-      // Try to fetch as many values of the list as possible, until the end is reached
+      // Map as many elements of the list as possible, until the end is reached
       List<Object> items = new ArrayList<>();
-      for (int i = 0; i < Integer.MAX_VALUE; i++) {
-        Optional<?> v = parseValueSub(cKey + "[" + i + "]", (Class<? extends AConfigSection>) arrType, f, true, false);
+      if (kind == NodeKind.LIST) {
+        List<?> elements = (List<?>) node;
+        List<Optional<?>> values = mapAll(
+          elements.size(),
+          i -> parseValueSub(cKey + "[" + i + "]", elements.get(i), (Class<? extends AConfigSection>) arrType, f, true, false),
+          true
+        );
 
-        // End of list reached, no more items available
-        if (v.isEmpty())
-          break;
+        for (Optional<?> v : values) {
+          // Missing or unparsable element, which ends the list
+          if (v.isEmpty())
+            break;
 
-        items.add(v.get());
+          items.add(v.get());
+        }
       }
 
       // Only set if there are actually items available
@@ -190,33 +312,19 @@ public class ConfigReader implements ILutResolver {
     // separately, supporting for recursion
     if (isSection) {
       try {
-        AConfigSection res = (AConfigSection) type.getConstructor().newInstance();
-
-        List<Field> fields = findFields(type).stream()
-          .sorted((a, b) -> {
-            if (a.getType() == Object.class && b.getType() == Object.class)
-              return 0;
-
-            // Objects are "greater", so they'll be last when sorting ASC
-            return a.getType() == Object.class ? 1 : -1;
-          })
-          .collect(Collectors.toList());
-
-        for (Field field : fields) {
-          // Ignore fields marked for ignore
-          if (field.getAnnotation(CSIgnore.class) != null)
-            continue;
+        // Fields are only discovered once per class
+        MappingPlan plan = MappingPlan.of((Class<? extends AConfigSection>) type);
+        AConfigSection res = plan.instantiate();
 
-          field.setAccessible(true);
+        for (FieldBinding binding : plan.getBindings()) {
+          boolean isAlways = binding.isAlways();
 
-          // A field is marked as always by either being directly marked, or by being the member of a marked class
-          boolean isAlways = field.isAnnotationPresent(CSAlways.class) || type.isAnnotationPresent(CSAlways.class);
-
-          String fName = field.getName();
-          Class<?> fType = field.getType();
+          String fName = binding.getName();
+          Class<?> fType = binding.getType();
 
           // If this field is inlined, do not append it's name to the path
-          String fKey = field.getAnnotation(CSInlined.class) != null ? cKey : join(cKey, fName);
+          String fKey = binding.isInlined() ? cKey : join(cKey, fName);
+          Object fNode = binding.isInlined() ? node : child(node, fName);
 
           // Try to transform the type by letting the class decide at runtime
           if (fType == Object.class)
@@ -225,16 +333,16 @@ public class ConfigReader implements ILutResolver {
           // Is another config section and thus needs recursion
           if (AConfigSection.class.isAssignableFrom(fType)) {
 
-            Object v = parseValueSub(fKey, (Class<? extends AConfigSection>) fType, field, false, isAlways).orElse(null);
+            Object v = parseValueSub(fKey, fNode, (Class<? extends AConfigSection>) fType, binding, false, isAlways).orElse(null);
             if (v != null)
-              field.set(res, v);
+              binding.set(res, v);
 
             continue;
           }
 
           // Initially try to parse the value
           Class<?> ffType = fType;
-          Object v = parseValueSub(fKey, fType, field, false, false).orElse(null);
+          Object v = parseValueSub(fKey, fNode, fType, binding, false, false).orElse(null);
 
           // Failed, try to ask for a default value
           if (v == null)
@@ -249,11 +357,11 @@ public class ConfigReader implements ILutResolver {
           }
 
           if (v != null)
-            field.set(res, v);
+            binding.set(res, v);
         }
 
         // Done, no more changes are to be made
-        res.afterParsing(fields);
+        res.afterParsing(new ArrayList<>(plan.getFields()));
 
         return Optional.of(type.cast(res));
       } catch (Exception e) {
@@ -267,8 +375,16 @@ public class ConfigReader implements ILutResolver {
     // Since ConfigValue scalars always work with boxed types, box at this point
     type = Primitives.wrap(type);
 
+    // Value unavailable
+    if (kind == NodeKind.MISSING)
+      return Optional.empty();
+
+    // Already of the requested type, which needs no conversion
+    if (type == node.getClass())
+      return Optional.of(type.cast(node));
+
     // Try to use ConfigValue's internal casting mechanism
-    ConfigValue cv = get(cKey).orElse(null);
+    ConfigValue cv = wrap(node);
     if (cv != null) {
       // Set the scalar value, only if it's type matches
       Object v = cv.asScalar(type);
@@ -279,6 +395,158 @@ public class ConfigReader implements ILutResolver {
     return Optional.empty();
   }
 
+  /**
+   * Enable mapping the elements of large lists and maps in parallel. Elements are
+   * independent of each other and their results are merged in their original order,
+   * so the mapped values are equal to those of sequential mapping. Custom sections
+   * have to be safe to be constructed and patched concurrently.
+   * @param pool Pool to map on, null disables parallel mapping
+   */
+  public void setParallelPool(@Nullable ForkJoinPool pool) {
+    this.parallelPool = pool;
+  }
+
+  /**
+   * Drop all resolved converters of section keys, so that no types of a disabled plugin are kept alive
+   */
+  public static void clearKeyConverters() {
+    keyConverters.clear();
+  }
+
+  /**
+   * Invalidate all previously cached parse results, which
+   * is required after the underlying file has been reloaded
+   */
+  public void invalidate() {
+    parseCache.invalidate();
+  }
+
+  /**
+   * Apply changes of the underlying file to all cached parse results. Cached sections
+   * which are affected by a change are re-mapped and patched in place, so that references
+   * to them stay valid, where unaffected fields keep their instances. All other affected
+   * results are dropped from the cache. Listeners are notified afterwards.
+   * @param changed Keys which changed, the empty key means the whole file changed
+   */
+  public void refresh(Set<String> changed) {
+    applyRefresh(prepareRefresh(changed, cfg.resolve(path, "").orElse(null)));
+  }
+
+  /**
+   * Re-map all cached sections which are affected by a change without touching the cache,
+   * which allows to pay the mapping cost off-thread before the new tree is published
+   * @param changed Keys which changed, the empty key means the whole file changed
+   * @param root Root node of the new tree
+   * @return Prepared refresh, to be applied by {@link #applyRefresh(PreparedRefresh)}
+   */
+  public PreparedRefresh prepareRefresh(Set<String> changed, @Nullable Object root) {
+    Map<String, Map<Class<?>, Object>> values = new HashMap<>();
+
+    // Nothing changed
+    if (changed.isEmpty())
+      return new PreparedRefresh(changed, values);
+
+    // Nodes of all already resolved prefixes within the new tree
+    Map<String, Object> nodes = new HashMap<>();
+    nodes.put("", root);
+
+    for (String key : parseCache.keys()) {
+      if (!SectionPatcher.isAffected(key, changed))
+        continue;
+
+      Map<Class<?>, Object> types = new HashMap<>();
+
+      for (Map.Entry<Class<?>, Object> entry : parseCache.getAll(key).entrySet()) {
+        // Only sections are patched in place, all other values are dropped anyways
+        if (entry.getValue() instanceof AConfigSection)
+          types.put(entry.getKey(), parseValueSub(key, resolveShared(key, nodes), entry.getKey(), null, false, false).orElse(null));
+      }
+
+      values.put(key, types);
+    }
+
+    return new PreparedRefresh(changed, values);
+  }
+
+  /**
+   * Apply a previously prepared refresh on all cached parse results, after the new
+   * tree has been published. Affected results which have been cached after the
+   * refresh has been prepared are dropped, as they may stem from the previous tree.
+   * Listeners are notified afterwards.
+   * @param refresh Prepared refresh to apply
+   */
+  public void applyRefresh(PreparedRefresh refresh) {
+    Set<String> changed = refresh.getChanged();
+
+    // Nothing changed
+    if (changed.isEmpty())
+      return;
+
+    // Results parsed from the previous tree which are not yet cached will be rejected,
+    // all others are cached by now and thus either patched or dropped below
+    parseCache.advance();
+
+    for (String key : parseCache.keys()) {
+      if (!SectionPatcher.isAffected(key, changed))
+        continue;
+
+      for (Map.Entry<Class<?>, Object> entry : parseCache.getAll(key).entrySet()) {
+        Object current = entry.getValue();
+        Object fresh = refresh.getValue(key, entry.getKey());
+
+        if (SectionPatcher.isPatchable(current, fresh)) {
+          try {
+            SectionPatcher.patch((AConfigSection) current, (AConfigSection) fresh, key, changed);
+            continue;
+          } catch (Exception e) {
+            if (logger == null)
+              e.printStackTrace();
+            else
+              logger.logError(e);
+          }
+        }
+
+        // Not patchable, will be parsed again on it's next request
+        parseCache.remove(key, entry.getKey());
+      }
+    }
+
+    for (Consumer<Set<String>> listener : changeListeners)
+      listener.accept(changed);
+  }
+
+  /**
+   * Register a listener which is notified about changed keys after each refresh,
+   * which allows to invalidate values derived from parsed results precisely
+   * @param listener Listener to register
+   */
+  public void addChangeListener(Consumer<Set<String>> listener) {
+    changeListeners.add(listener);
+  }
+
+  /**
+   * Unregister a previously registered change listener
+   * @param listener Listener to unregister
+   */
+  public void removeChangeListener(Consumer<Set<String>> listener) {
+    changeListeners.remove(listener);
+  }
+
+  /**
+   * Invalidate all previously cached parse results of a key and all of it's children
+   * @param key Key to invalidate, the empty key invalidates all results
+   */
+  public void invalidate(String key) {
+    parseCache.invalidate(key);
+  }
+
+  /**
+   * Get the cache of parse results, mainly to inspect it's statistics
+   */
+  public ParseCache getParseCache() {
+    return parseCache;
+  }
+
   /**
    * Get a config-value from the file of this reader
    * @param key Key to retrieve
@@ -292,23 +560,176 @@ public class ConfigReader implements ILutResolver {
   //=========================================================================//
 
   /**
-   * Finds all fields of a class while accounting for inheritance
-   * @param c Target class
-   * @return List of found fields
+   * Parse a key without consulting the cache
+   * @param key Key to parse, the empty key means top level
+   * @param type Internal model to parse into
+   * @return Optional parsed model, if the key existed
    */
-  private List<Field> findFields(Class<?> c) {
-    List<Field> res = new ArrayList<>();
-
-    // Walk superclass hierarchy and collect all fields
-    Class<?> curr = c;
-    while (curr != null && curr != Object.class) {
-      res.addAll(Arrays.asList(curr.getDeclaredFields()));
-      curr = curr.getSuperclass();
+  private<T> Optional<T> parseUncached(String key, Class<T> type) {
+    // Resolve the starting node once, all children are resolved relative to it
+    Object node = cfg.resolve(path, key).orElse(null);
+    return parseValueSub(key, node, type, null, false, false);
+  }
+
+  /**
+   * Resolve the node of a key, where all prefixes of the key are looked up within
+   * and stored into a map of already resolved nodes, which is shared across keys
+   * @param key Key to resolve
+   * @param nodes Mapping already resolved prefixes to their nodes, has to contain the root
+   * @return Resolved node, null if missing
+   */
+  private @Nullable Object resolveShared(String key, Map<String, Object> nodes) {
+    if (nodes.containsKey(key))
+      return nodes.get(key);
+
+    KeyPath keyPath = KeyPath.of(key);
+
+    // Contained an unparsable index notation
+    if (!keyPath.isValid())
+      return null;
+
+    Object node = nodes.get("");
+
+    // Walking the sections which wrap the split level of a lazily loaded file would
+    // materialize all of it's keys, thus each key is resolved on it's own instead
+    if (node instanceof LazyYamlConfiguration && !((LazyYamlConfiguration) node).getPrefix().isEmpty()) {
+      node = keyPath.resolve(node);
+      nodes.put(key, node);
+      return node;
     }
 
+    int end = -1;
+
+    for (int i = 0; i < keyPath.size(); i++) {
+      // Levels are separated by dots, just like the key has been split
+      end = key.indexOf('.', end + 1);
+      String prefix = end < 0 ? key : key.substring(0, end);
+
+      if (nodes.containsKey(prefix))
+        node = nodes.get(prefix);
+      else {
+        node = node == null ? null : keyPath.resolveLevel(node, i);
+        nodes.put(prefix, node);
+      }
+
+      if (end < 0)
+        break;
+    }
+
+    return node;
+  }
+
+  /**
+   * Map a number of independent elements by their index, either sequentially
+   * or in parallel, if enabled and there are enough elements
+   * @param size Number of elements
+   * @param mapper Mapper of an element's index to it's result
+   * @param stopOnEmpty Whether mapping stops after the first empty result
+   * @return Results in order of their index, up to and including the first empty result when stopping on it
+   */
+  private List<Optional<?>> mapAll(int size, IntFunction<Optional<?>> mapper, boolean stopOnEmpty) {
+    ForkJoinPool pool = parallelPool;
+
+    // Map sequentially
+    if (pool == null || size < PARALLEL_THRESHOLD) {
+      List<Optional<?>> res = new ArrayList<>(size);
+
+      for (int i = 0; i < size; i++) {
+        Optional<?> v = mapper.apply(i);
+        res.add(v);
+
+        if (stopOnEmpty && v.isEmpty())
+          break;
+      }
+
+      return res;
+    }
+
+    Object[] results = new Object[size];
+
+    // When stopping on empty results, map window by window, so that no more than
+    // a single window is mapped in vain after the first empty result
+    int window = stopOnEmpty ? PARALLEL_THRESHOLD * pool.getParallelism() : size;
+    int count = 0;
+
+    while (count < size) {
+      MappingTask<Optional<?>> task = new MappingTask<>(
+        mapper, stopOnEmpty ? Optional::isEmpty : null,
+        results, count, Math.min(size, count + window)
+      );
+
+      // Nested within another parallel mapping, map on the current worker, while
+      // callers running within any other pool still hand the task over
+      if (ForkJoinTask.getPool() == pool)
+        task.invoke();
+      else
+        pool.invoke(task);
+
+      count = task.getMappedUntil();
+
+      if (task.hasEnded())
+        break;
+    }
+
+    List<Optional<?>> res = new ArrayList<>(count);
+    for (int i = 0; i < count; i++)
+      res.add((Optional<?>) results[i]);
+
     return res;
   }
 
+  /**
+   * Get the converter of section keys into a map key type, which is only resolved once per type
+   * @param type Map key type
+   * @return Converter, yielding null if a key is not convertible
+   */
+  private static Function<String, Object> keyConverterOf(Class<?> type) {
+    return keyConverters.computeIfAbsent(type, t -> {
+      // Keys are strings already
+      if (t == String.class)
+        return key -> key;
+
+      return key -> ConfigValue.immediate(key).asScalar(t);
+    });
+  }
+
+  /**
+   * Get a named child of a node
+   * @param node Node to get the child of
+   * @param name Name of the child
+   * @return Child node, null if the node has no such child
+   */
+  private @Nullable Object child(@Nullable Object node, String name) {
+    // Maps are usually encountered within lists
+    if (node instanceof Map<?, ?>)
+      return ((Map<?, ?>) node).get(name);
+
+    // Sections are usually encountered within other sections
+    if (node instanceof ConfigurationSection)
+      return ((ConfigurationSection) node).get(name);
+
+    return null;
+  }
+
+  /**
+   * Wrap a node into a config value, just like the underlying config would
+   * @param node Node to wrap
+   * @return Wrapped node, null if the node is missing
+   */
+  @SuppressWarnings("unchecked")
+  private @Nullable ConfigValue wrap(@Nullable Object node) {
+    // Value unavailable
+    if (node == null)
+      return null;
+
+    // Is a list
+    if (node instanceof List<?>)
+      return new ConfigValue((List<Object>) node, evaluator, this);
+
+    // Is a scalar
+    return new ConfigValue(node, evaluator, this);
+  }
+
   /**
    * Join two keys with a separating dot and handle all cases
    * @param keyA Key A of the result
@@ -1,8 +1,5 @@
 package me.blvckbytes.bblibconfig;
 
-import com.cryptomorin.xseries.XEnchantment;
-import com.cryptomorin.xseries.XMaterial;
-import com.cryptomorin.xseries.XPotion;
 import com.google.common.primitives.Primitives;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -14,18 +11,8 @@ import me.blvckbytes.bblibconfig.expressions.IExpressionEvaluator;
 import me.blvckbytes.bblibconfig.sections.ExpressionSection;
 import me.blvckbytes.bblibutil.component.GradientGenerator;
 import me.blvckbytes.bblibutil.component.TextComponent;
-import org.bukkit.Color;
-import org.bukkit.enchantments.Enchantment;
-import org.bukkit.potion.PotionEffectType;
-import org.bukkit.potion.PotionType;
 import org.jetbrains.annotations.Nullable;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
-import java.text.DateFormat;
-import java.text.DecimalFormat;
-import java.text.NumberFormat;
-import java.text.SimpleDateFormat;
 import java.util.*;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -53,28 +40,14 @@ import java.util.stream.Collectors;
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class ConfigValue implements IExpressionDataProvider {
 
-  ///////////////////////////////// Constants /////////////////////////////////
-
-  // Decimal format used when encountering double variables
-  private static final DecimalFormat DECIMAL_FORMAT;
-
-  // Date format used when serializing dates from/to strings
-  private static final DateFormat SERIALIZATION_FORMAT;
-
-  static {
-    DECIMAL_FORMAT = (DecimalFormat) NumberFormat.getInstance(Locale.US);
-    DECIMAL_FORMAT.applyPattern("0.00");
-    SERIALIZATION_FORMAT = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS");
-  }
-
   ///////////////////////////////// Properties ////////////////////////////////
 
   // Unmodified items read from the config
   @Getter private final List<Object> items;
 
   // Variable names and their values that need to be substituted
-  // Names are translated to a pattern when added to the instance
-  @Getter private final Map<String, String> variables;
+  // Values are only stringified once they're referenced
+  @Getter private final VariableMap variables;
 
   // Expression evaluator used to substitute variables and execute expressions
   @Getter private final @Nullable IExpressionEvaluator evaluator;
@@ -114,7 +87,7 @@ public class ConfigValue implements IExpressionDataProvider {
     this.lutResolver = lutResolver;
     this.evaluator = evaluator;
     this.prefixMode = 'N';
-    this.variables = new HashMap<>();
+    this.variables = new VariableMap();
     this.areColorsEnabled = true;
   }
 
@@ -156,10 +129,18 @@ public class ConfigValue implements IExpressionDataProvider {
    * @param value Value of the variable
    */
   public ConfigValue withVariable(String name, @Nullable Object value) {
-    this.variables.put(
-      name.toLowerCase(),
-      value == null ? "null" : stringifyVariable(value)
-    );
+    this.variables.putValue(name.toLowerCase(), VariableValue.of(value, null));
+    return this;
+  }
+
+  /**
+   * Add a variable to the template of this value, which is only
+   * supplied if the variable is actually referenced
+   * @param name Name of the variable
+   * @param value Supplier of the variable's value
+   */
+  public ConfigValue withVariable(String name, Supplier<?> value) {
+    this.variables.putValue(name.toLowerCase(), VariableValue.lazy(value, null));
     return this;
   }
 
@@ -170,15 +151,13 @@ public class ConfigValue implements IExpressionDataProvider {
    * @param suffix Suffix to add to the value
    */
   public ConfigValue withVariable(String name, @Nullable Object value, String suffix) {
-    this.variables.put(
-      name.toLowerCase(),
-      value == null ? "null" : (stringifyVariable(value) + suffix)
-    );
+    this.variables.putValue(name.toLowerCase(), VariableValue.of(value, suffix));
     return this;
   }
 
   /**
-   * Apply an external map of variables all at once
+   * Apply an external map of variables all at once, where variable maps, scopes
+   * and scoped providers carry over their values without stringifying them
    * @param variables Map of variables
    */
   public ConfigValue withVariables(@Nullable Map<String, String> variables) {
@@ -187,12 +166,45 @@ public class ConfigValue implements IExpressionDataProvider {
     return this;
   }
 
+  @Override
+  public @Nullable Object getVariableValue(String name) {
+    return variables.getValue(name);
+  }
+
   /**
-   * Export all currently known variables
-   * @return Map of variables
+   * Get the typed value of the variable this value solely consists of,
+   * which is the case for single string items like {{name}}
+   * @return Typed value, null if there's no such variable or if it's a string
+   */
+  public @Nullable Object asTypedVariable() {
+    if (items.size() != 1 || prefixMode != 'N' || !(items.get(0) instanceof String))
+      return null;
+
+    String item = (String) items.get(0);
+
+    // Not solely a variable notation
+    if (!item.startsWith("{{") || !item.endsWith("}}") || item.length() < 4)
+      return null;
+
+    String name = item.substring(2, item.length() - 2);
+
+    // Contains further notations
+    if (name.contains("{{") || name.contains("}}"))
+      return null;
+
+    Object value = variables.getValue(name.trim());
+
+    // Strings are still rendered, as they might require colors to be applied
+    return value instanceof String ? null : value;
+  }
+
+  /**
+   * Export all currently known variables, where values are carried
+   * over as they are when applied on another value
+   * @return Copied map of variables
    */
   public Map<String, String> exportVariables() {
-    return Collections.unmodifiableMap(this.variables);
+    return new VariableMap(this.variables);
   }
 
   /**
@@ -208,7 +220,7 @@ public class ConfigValue implements IExpressionDataProvider {
       return this;
 
     ConfigValue cv = other.get();
-    this.variables.putAll(cv.exportVariables());
+    this.variables.putAll(cv.variables);
     this.items.addAll(cv.items);
     return this;
   }
@@ -238,6 +250,16 @@ public class ConfigValue implements IExpressionDataProvider {
     return TextComponent.parseFromText(asScalar(), gradientGenerator);
   }
 
+  /**
+   * Build as a component within a variable scope, without copying this value
+   * @param gradientGenerator Gradient generator ref for generating gradients from gradient notation, optional
+   * @param scope Scope of variables, which override the variables of this value
+   * @return Component value
+   */
+  public TextComponent renderComponent(@Nullable GradientGenerator gradientGenerator, VariableScope scope) {
+    return TextComponent.parseFromText(renderScalar(scope), gradientGenerator);
+  }
+
   /**
    * Get the first available value from the list as a
    * scalar of a specific type by trying to cast
@@ -245,13 +267,18 @@ public class ConfigValue implements IExpressionDataProvider {
    * @return Cast type or null
    */
   public<T> @Nullable T asScalar(Class<T> type) {
-    try {
-      if (items.size() != 0)
-        return cast(items.get(0), type).orElse(null);
-    } catch (ClassCastException e) {
-      e.printStackTrace();
-    }
-    return null;
+    return scalarOf(type, this);
+  }
+
+  /**
+   * Get the first available value from the list as a scalar of a specific
+   * type within a variable scope, without copying this value
+   * @param type Required type
+   * @param scope Scope of variables, which override the variables of this value
+   * @return Cast type or null
+   */
+  public<T> @Nullable T renderScalar(Class<T> type, VariableScope scope) {
+    return scalarOf(type, providerOf(scope));
   }
 
   /**
@@ -275,27 +302,17 @@ public class ConfigValue implements IExpressionDataProvider {
    * @return String value
    */
   public String asScalar(String sep) {
-    StringBuilder result = new StringBuilder();
-
-    for (int i = 0; i < items.size(); i++) {
-      String line = cast(items.get(i), String.class).orElseThrow();
-
-      // Separate lines
-      if (i != 0) {
-        // Reset colors between lines
-        result.append("§r");
-        result.append(sep);
-      }
-
-      // Add prefix based on previous selection on non-empty strings
-      if (prefixMode == 'F' && i == 0 || prefixMode == 'A' && !line.isBlank())
-        result.append(prefix);
-
-      // Append the actual line after evaluation
-      result.append(evaluator != null ? evaluator.substituteVariables(line, this) : line);
-    }
+    return joinedOf(sep, this);
+  }
 
-    return result.toString();
+  /**
+   * Build as a scalar within a variable scope, without copying this value,
+   * by stringifying values and joining them using newlines for line separation
+   * @param scope Scope of variables, which override the variables of this value
+   * @return String value
+   */
+  public String renderScalar(VariableScope scope) {
+    return joinedOf("\n", providerOf(scope));
   }
 
   ///////////////////////////////// List Value ////////////////////////////////
@@ -306,17 +323,7 @@ public class ConfigValue implements IExpressionDataProvider {
    * @return List of strings
    */
   public List<String> asList() {
-    return items.stream()
-      .map(line -> {
-        String str = cast(line, String.class).orElseThrow();
-        return evaluator != null ? evaluator.substituteVariables(str, this) : str;
-      })
-      .filter(line -> !line.isEmpty())
-      .map(line -> Arrays.asList(line.split("\\\\n|\\R")))
-      .reduce(new ArrayList<>(), (a, b) -> {
-        a.addAll(b);
-        return a;
-      });
+    return linesOf(this);
   }
 
   /**
@@ -331,6 +338,18 @@ public class ConfigValue implements IExpressionDataProvider {
       .collect(Collectors.toList());
   }
 
+  /**
+   * Build as a list of components within a variable scope, without copying this value
+   * @param gradientGenerator Gradient generator ref for generating gradients from gradient notation, optional
+   * @param scope Scope of variables, which override the variables of this value
+   * @return List of components
+   */
+  public List<TextComponent> renderComponentList(@Nullable GradientGenerator gradientGenerator, VariableScope scope) {
+    return linesOf(providerOf(scope)).stream()
+      .map(l -> TextComponent.parseFromText(l, gradientGenerator))
+      .collect(Collectors.toList());
+  }
+
   /**
    * Get the local list by casting every element to the provided
    * type, where mismatching entries are skipped
@@ -376,7 +395,7 @@ public class ConfigValue implements IExpressionDataProvider {
       return item;
     }).collect(Collectors.toList());
 
-    Map<String, String> combinedVariables = new HashMap<>(this.variables);
+    VariableMap combinedVariables = new VariableMap(this.variables);
     combinedVariables.putAll(dataProvider.getVariables());
 
     return new ConfigValue(evaluatedItems, combinedVariables, evaluator, lutResolver, prefix, prefixMode, areColorsEnabled);
@@ -393,18 +412,32 @@ public class ConfigValue implements IExpressionDataProvider {
    * @param type Type to convert to
    */
   private<T> Optional<T> cast(Object value, Class<T> type) {
+    return cast(value, type, this);
+  }
+
+  /**
+   * Tries to "cast" an object read from the config into the required type by
+   * using the data of a provider and responds with an empty result if the
+   * conversion is impossible
+   * @param value Value to convert
+   * @param type Type to convert to
+   * @param provider Provider of variables to substitute
+   */
+  @SuppressWarnings("unchecked")
+  private<T> Optional<T> cast(Object value, Class<T> type, IExpressionDataProvider provider) {
     try {
       // Is an evaluatable expression
-      if (evaluator != null && value instanceof ExpressionSection)
-        value = evaluator.evaluateExpression((ExpressionSection) value, this);
+      boolean evaluated = evaluator != null && value instanceof ExpressionSection;
+      if (evaluated)
+        value = evaluator.evaluateExpression((ExpressionSection) value, provider);
 
-      // Requested the whole wrapper
+      // Requested the whole wrapper, which needs to carry the provided variables
       if (type == ConfigValue.class)
-        return Optional.of(type.cast(this));
+        return Optional.of(type.cast(provider == this ? this : copy().withVariables(provider.getVariables())));
 
       // MD5 Component
       if (type == TextComponent.class)
-        return Optional.of(type.cast(new TextComponent(asScalar("\n"))));
+        return Optional.of(type.cast(new TextComponent(joinedOf("\n", provider))));
 
       // Ensure wrapper types for easier comparison
       Class<T> wType = Primitives.wrap(type);
@@ -414,135 +447,106 @@ public class ConfigValue implements IExpressionDataProvider {
         return Optional.of(type.cast(value));
 
       // Stringify the value like asScalar would
-      String stringValue = evaluator != null ? evaluator.substituteVariables(value.toString().trim(), this) : value.toString().trim();
-
-      // Requested an abstract material definition
-      if (wType == XMaterial.class)
-        return XMaterial.matchXMaterial(stringValue).map(wType::cast);
-
-      // Since enchantments are just constants, map here
-      if (wType == Enchantment.class)
-        return XEnchantment.matchXEnchantment(stringValue).map(xe -> wType.cast(xe.getEnchant()));
-
-      // Since potion types are just constants, map here
-      if (wType == PotionType.class) {
-        // Try to get the abstracted type
-        return XPotion.matchXPotion(stringValue).map(XPotion::getPotionType)
-          // Otherwise, try to parse directly
-          // Useful for types like AWKWARD, MUNDANE, ...
-          .or(() -> {
-            try {
-              return Optional.of(PotionType.valueOf(stringValue));
-            } catch (IllegalArgumentException ignored) {
-              return Optional.empty();
-            }
-          })
-          .map(wType::cast);
-      }
+      String stringValue = substitute(value.toString().trim(), !evaluated, provider);
 
-      // Since potion effect types are just constants, map here
-      if (wType == PotionEffectType.class)
-        return XPotion.matchXPotion(stringValue).map(xe -> wType.cast(xe.getPotionEffectType()));
-
-      // String value as scalar
-      if (wType == String.class)
-        return Optional.of(wType.cast(stringValue));
-
-      // Automatic color parsing with RGB-notation support
-      if (wType == Color.class) {
-        // Try to parse an enum name
-        Optional<T> enumValue = parseEnum(wType, stringValue);
-        if (enumValue.isPresent())
-          return enumValue;
-
-        // Assume it's an RGB color
-        String[] parts = stringValue.split(" ");
-
-        // Malformed
-        if (parts.length != 3)
-          return Optional.empty();
-
-        // Parse RGB parts
-        return Optional.of(wType.cast(Color.fromRGB(
-          Integer.parseInt(parts[0]),
-          Integer.parseInt(parts[1]),
-          Integer.parseInt(parts[2])
-        )));
-      }
-
-      // Check if the class has any static constants of it's own type
-      // Enums in Bukkit are often made up like this
-      boolean hasStaticSelfConstants = (
-        Arrays.stream(wType.getDeclaredFields())
-          .anyMatch(field -> (
-            // Is of self type
-            field.getType().equals(wType) &&
-            // And is static
-            Modifier.isStatic(field.getModifiers()))
-          )
-      );
-
-      // Automatic enum parsing
-      if (wType.isEnum() || hasStaticSelfConstants)
-        return parseEnum(wType, stringValue);
-
-      // Parse integers
-      if (wType == Integer.class || wType == Long.class)
-        return Optional.of(wType.cast(Integer.parseInt(stringValue)));
-
-      // Parse floating points
-      if (wType == Float.class || wType == Double.class)
-        return Optional.of(wType.cast(Float.parseFloat(stringValue)));
-
-      // Parse booleans
-      if (wType == Boolean.class) {
-        return Optional.of(wType.cast(
-          stringValue.equalsIgnoreCase("true") | stringValue.equalsIgnoreCase("yes") | stringValue.equalsIgnoreCase("1")
-        ));
-      }
-
-      return Optional.of(wType.cast(value));
+      return (Optional<T>) ScalarConverters.of(wType).convert(value, stringValue);
     } catch (Exception e) {
       return Optional.empty();
     }
   }
 
+  //=========================================================================//
+  //                                Rendering                                //
+  //=========================================================================//
+
   /**
-   * Parses an "enum" from either true enum constants or static self-typed
-   * constant declarations within the specified class
-   * @param c Target class
-   * @param value String value to parse
-   * @return Optional constant, empty if there was no such constant
+   * Get the data provider to render within a variable scope
+   * @param scope Scope of variables, which override the variables of this value
+   * @return Data provider, this value itself if the scope is empty
    */
-  @SuppressWarnings("unchecked")
-  private<T> Optional<T> parseEnum(Class<T> c, String value) {
-    value = value.trim();
-
-    // Parse enums
-    if (c.isEnum()) {
-      for (T ec : c.getEnumConstants()) {
-        if (((Enum<?>) ec).name().equalsIgnoreCase(value))
-          return Optional.of(ec);
-      }
+  private IExpressionDataProvider providerOf(VariableScope scope) {
+    return scope.isEmpty() ? this : new ScopedDataProvider(this, scope);
+  }
+
+  /**
+   * Substitute all variables of a string, where only strings which stem from the config
+   * itself are cached by the evaluator, as strings built at runtime, like results of
+   * expressions, differ between evaluations and would only evict the cached strings
+   * @param input String to substitute in
+   * @param fromConfig Whether the string has been read from the config as is
+   * @param provider Provider of variables to substitute
+   * @return Substituted string
+   */
+  private String substitute(String input, boolean fromConfig, IExpressionDataProvider provider) {
+    if (evaluator == null)
+      return input;
+
+    return fromConfig ? evaluator.substituteVariables(input, provider) : evaluator.substituteVariablesOnce(input, provider);
+  }
+
+  /**
+   * Get the first available value from the list as a
+   * scalar of a specific type by trying to cast
+   * @param type Required type
+   * @param provider Provider of variables to substitute
+   * @return Cast type or null
+   */
+  private<T> @Nullable T scalarOf(Class<T> type, IExpressionDataProvider provider) {
+    try {
+      if (items.size() != 0)
+        return cast(items.get(0), type, provider).orElse(null);
+    } catch (ClassCastException e) {
+      e.printStackTrace();
     }
+    return null;
+  }
 
-    // Parse classes with static constants
-    else {
-      try {
-        List<Field> constants = Arrays.stream(c.getDeclaredFields())
-          .filter(field -> field.getType().equals(c) && Modifier.isStatic(field.getModifiers()))
-          .collect(Collectors.toList());
-
-        for (Field constant : constants) {
-          if (constant.getName().equalsIgnoreCase(value))
-            return Optional.of((T) constant.get(null));
-        }
-      } catch (Exception ex) {
-        ex.printStackTrace();
+  /**
+   * Build as a scalar value using a custom string for line separation
+   * @param sep Custom line separator
+   * @param provider Provider of variables to substitute
+   * @return String value
+   */
+  private String joinedOf(String sep, IExpressionDataProvider provider) {
+    StringBuilder result = new StringBuilder();
+
+    for (int i = 0; i < items.size(); i++) {
+      Object item = items.get(i);
+      String line = cast(item, String.class, provider).orElseThrow();
+
+      // Separate lines
+      if (i != 0) {
+        // Reset colors between lines
+        result.append("§r");
+        result.append(sep);
       }
+
+      // Add prefix based on previous selection on non-empty strings
+      if (prefixMode == 'F' && i == 0 || prefixMode == 'A' && !line.isBlank())
+        result.append(prefix);
+
+      // Append the actual line after evaluation
+      result.append(substitute(line, item instanceof String, provider));
     }
 
-    return Optional.empty();
+    return result.toString();
+  }
+
+  /**
+   * Build as a list of strings, as they were defined in the
+   * config, but split newlines.
+   * @param provider Provider of variables to substitute
+   * @return List of strings
+   */
+  private List<String> linesOf(IExpressionDataProvider provider) {
+    return items.stream()
+      .map(item -> substitute(cast(item, String.class, provider).orElseThrow(), item instanceof String, provider))
+      .filter(line -> !line.isEmpty())
+      .map(line -> Arrays.asList(line.split("\\\\n|\\R")))
+      .reduce(new ArrayList<>(), (a, b) -> {
+        a.addAll(b);
+        return a;
+      });
   }
 
   //=========================================================================//
@@ -553,7 +557,7 @@ public class ConfigValue implements IExpressionDataProvider {
    * Create a carbon copy of this config value
    */
   public ConfigValue copy() {
-    return new ConfigValue(new ArrayList<>(items), new HashMap<>(variables), evaluator, lutResolver, prefix, prefixMode, areColorsEnabled);
+    return new ConfigValue(new ArrayList<>(items), new VariableMap(variables), evaluator, lutResolver, prefix, prefixMode, areColorsEnabled);
   }
 
   @Override
@@ -561,34 +565,6 @@ public class ConfigValue implements IExpressionDataProvider {
     return asScalar();
   }
 
-  //=========================================================================//
-  //                         Variable Stringification                        //
-  //=========================================================================//
-
-  /**
-   * Turn a variable's value into it's string representation
-   * @param value Value to stringify
-   */
-  private static String stringifyVariable(Object value) {
-    // Doubles should always have two decimal digits
-    if (value instanceof Double) {
-      Double d = (Double) value;
-      return d == 0 ? "0" : DECIMAL_FORMAT.format(d);
-    }
-
-    // Floats should always have two decimal digits
-    if (value instanceof Float) {
-      Float f = (Float) value;
-      return f == 0 ? "0" : DECIMAL_FORMAT.format(f);
-    }
-
-    // Serialize dates
-    if (value instanceof Date)
-      return SERIALIZATION_FORMAT.format((Date) value);
-
-    return value.toString();
-  }
-
   //=========================================================================//
   //                           Convenience Creators                          //
   //=========================================================================//
@@ -597,7 +573,7 @@ public class ConfigValue implements IExpressionDataProvider {
    * Directly export a single variable
    */
   public static Map<String, String> singleVariable(String key, Object value) {
-    return Map.of(key.toLowerCase(), stringifyVariable(value));
+    return Map.of(key.toLowerCase(), VariableValue.stringify(value));
   }
 
   /**
@@ -0,0 +1,205 @@
+package me.blvckbytes.bblibconfig;
+
+import me.blvckbytes.bblibutil.logger.ILogger;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static java.nio.file.StandardWatchEventKinds.*;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  Watches a folder as well as all of it's sub-folders for changes of .yml files
+  on a background thread and reports bursts of changes once they've settled.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class ConfigWatcher implements Runnable {
+
+  // Time without any further events until a burst of changes is reported
+  private static final long SETTLE_MS = 250;
+
+  private final Path root;
+  private final Consumer<Set<String>> changeHandler;
+  private final @Nullable ILogger logger;
+  private final WatchService service;
+  private final Map<WatchKey, Path> directories;
+  private final Thread thread;
+
+  /**
+   * Create a new watcher for a folder
+   * @param root Root folder to watch
+   * @param changeHandler Handler of changed config paths (no leading slash, no .yml),
+   *                      which is called on the watcher's thread
+   * @param logger Logger to report errors to, null means printing them
+   */
+  public ConfigWatcher(Path root, Consumer<Set<String>> changeHandler, @Nullable ILogger logger) throws IOException {
+    this.root = root;
+    this.changeHandler = changeHandler;
+    this.logger = logger;
+    this.service = root.getFileSystem().newWatchService();
+    this.directories = new HashMap<>();
+    this.thread = new Thread(this, "YamlConfig-Watcher");
+    this.thread.setDaemon(true);
+
+    register(root);
+  }
+
+  //=========================================================================//
+  //                                   API                                   //
+  //=========================================================================//
+
+  /**
+   * Start watching for changes
+   */
+  public void start() {
+    thread.start();
+  }
+
+  /**
+   * Stop watching for changes and release all resources
+   */
+  public void stop() {
+    thread.interrupt();
+
+    try {
+      service.close();
+    } catch (IOException e) {
+      logError(e);
+    }
+  }
+
+  @Override
+  public void run() {
+    Set<String> changes = new HashSet<>();
+
+    while (!Thread.currentThread().isInterrupted()) {
+      WatchKey key;
+
+      try {
+        key = (
+          changes.isEmpty() ?
+            // Nothing pending, wait for the next event
+            service.take() :
+            // Changes pending, wait for them to settle
+            service.poll(SETTLE_MS, TimeUnit.MILLISECONDS)
+        );
+      } catch (InterruptedException | ClosedWatchServiceException e) {
+        // Watcher has been stopped
+        return;
+      }
+
+      // Changes have settled, report them
+      if (key == null) {
+        Set<String> settled = changes;
+        changes = new HashSet<>();
+
+        // A failing handler should not stop watching for future changes
+        try {
+          changeHandler.accept(settled);
+        } catch (Exception e) {
+          logError(e);
+        }
+
+        continue;
+      }
+
+      try {
+        collect(key, changes);
+      } catch (Exception e) {
+        logError(e);
+      } finally {
+        // Directory is no longer accessible
+        if (!key.reset())
+          directories.remove(key);
+      }
+    }
+  }
+
+  //=========================================================================//
+  //                                Utilities                                //
+  //=========================================================================//
+
+  /**
+   * Collect all changed config paths of a signalled key
+   * @param key Signalled key
+   * @param changes Set of changed config paths to collect into
+   */
+  private void collect(WatchKey key, Set<String> changes) {
+    Path directory = directories.get(key);
+
+    for (WatchEvent<?> event : key.pollEvents()) {
+      // Events got lost, nothing to act on
+      if (directory == null || event.kind() == OVERFLOW)
+        continue;
+
+      Path target = directory.resolve((Path) event.context());
+
+      // Newly created folders need to be watched too
+      if (event.kind() == ENTRY_CREATE && Files.isDirectory(target)) {
+        // Folders may vanish again or be inaccessible, keep watching all others
+        try {
+          register(target);
+        } catch (IOException e) {
+          logError(e);
+        }
+
+        continue;
+      }
+
+      String name = root.relativize(target).toString().replace(File.separatorChar, '/');
+
+      // Not a yaml configuration file
+      if (!name.endsWith(".yml"))
+        continue;
+
+      changes.add(name.substring(0, name.length() - 4));
+    }
+  }
+
+  /**
+   * Log an error, either through the logger or on the console if there is none
+   * @param e Error to log
+   */
+  private void logError(Exception e) {
+    if (logger == null)
+      e.printStackTrace();
+    else
+      logger.logError(e);
+  }
+
+  /**
+   * Register a folder as well as all of it's sub-folders on the watch service
+   * @param folder Folder to register
+   */
+  private void register(Path folder) throws IOException {
+    try (
+      Stream<Path> folders = Files.walk(folder)
+    ) {
+      for (Path dir : (Iterable<Path>) folders.filter(Files::isDirectory)::iterator)
+        directories.put(dir.register(service, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE), dir);
+    }
+  }
+}
@@ -0,0 +1,127 @@
+package me.blvckbytes.bblibconfig;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  Performs requested saves of config files on a background thread after a short
+  delay, where all requests for the same file within that delay are coalesced
+  into a single write. Once shut down, requests are written on the calling thread.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class ConfigWriter {
+
+  private final long delayMs;
+  private final Consumer<String> writeHandler;
+  private final ScheduledExecutorService executor;
+
+  // Paths which have been requested to be saved but are not yet written
+  private final Set<String> pending;
+
+  /**
+   * Create a new writer
+   * @param delayMs Time to wait for further requests before a requested save is performed
+   * @param writeHandler Handler which writes a config path into it's file and reports it's own errors
+   */
+  public ConfigWriter(long delayMs, Consumer<String> writeHandler) {
+    this.delayMs = delayMs;
+    this.writeHandler = writeHandler;
+    this.pending = ConcurrentHashMap.newKeySet();
+    this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "YamlConfig-Writer");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  //=========================================================================//
+  //                                   API                                   //
+  //=========================================================================//
+
+  /**
+   * Request to save a config path, which is written once the delay passed
+   * @param path Path of the config (no leading slash, no .yml)
+   */
+  public void request(String path) {
+    // Already scheduled, the change will be picked up by the pending save
+    if (!pending.add(path))
+      return;
+
+    try {
+      executor.schedule(() -> {
+        // Already written by a flush in the meantime
+        if (pending.remove(path))
+          writeHandler.accept(path);
+      }, delayMs, TimeUnit.MILLISECONDS);
+    }
+
+    // Shut down already, changes still have to end up on disk
+    catch (RejectedExecutionException e) {
+      if (pending.remove(path))
+        writeHandler.accept(path);
+    }
+  }
+
+  /**
+   * Immediately write all pending paths on the calling thread
+   */
+  public void flush() {
+    for (String path : new ArrayList<>(pending)) {
+      if (pending.remove(path))
+        writeHandler.accept(path);
+    }
+  }
+
+  /**
+   * Stop the background thread and write all pending paths on the calling
+   * thread, where later requests are written immediately on their caller's thread
+   */
+  public void shutdown() {
+    executor.shutdown();
+    flush();
+  }
+
+  /**
+   * Write a file by writing a temporary file next to it first, which then atomically
+   * replaces the target, so that readers never observe a partially written file
+   * @param target File to write
+   * @param content Content to write
+   */
+  public static void writeAtomically(Path target, byte[] content) throws IOException {
+    Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+
+    try {
+      Files.write(temp, content);
+
+      try {
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+      }
+    } finally {
+      Files.deleteIfExists(temp);
+    }
+  }
+}
@@ -0,0 +1,70 @@
+package me.blvckbytes.bblibconfig;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import me.blvckbytes.bblibconfig.sections.CSMap;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Field;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  Binds a field of a config section to the config, with all of it's
+  mapping flags resolved once when the section's plan is created.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+@Getter
+@AllArgsConstructor
+public class FieldBinding {
+
+  // Bound field, already made accessible
+  private final Field field;
+
+  // Name of the field
+  private final String name;
+
+  // Declared type of the field, Object.class if decided at runtime
+  private final Class<?> type;
+
+  // Whether the field is always set, even if it's missing within the config
+  private final boolean always;
+
+  // Whether the field is inlined, which means it's name is not part of the key
+  private final boolean inlined;
+
+  // Key and value types of literal maps
+  private final @Nullable CSMap mapInfo;
+
+  // Setter of the field, of type (Object, Object)void
+  private final MethodHandle setter;
+
+  /**
+   * Set the value of the bound field on a target instance
+   * @param target Instance to set the field on
+   * @param value Value to set
+   */
+  public void set(Object target, Object value) throws Exception {
+    try {
+      setter.invokeExact(target, value);
+    } catch (Exception | Error e) {
+      throw e;
+    } catch (Throwable t) {
+      throw new IllegalStateException(t);
+    }
+  }
+}
@@ -1,5 +1,7 @@
 package me.blvckbytes.bblibconfig;
 
+import org.jetbrains.annotations.Nullable;
+
 import java.util.Optional;
 
 /*
@@ -37,6 +39,39 @@ public interface IConfig {
    */
   boolean exists(String path, String key);
 
+  /**
+   * Get the raw node of a value by it's config key, which is either a scalar,
+   * a list or a section, without wrapping it into a config value
+   * @param path Path of the target config file (no leading slash, no .yml)
+   * @param key Key to identify the value, the empty key addresses the root
+   * @throws UnsupportedOperationException If the implementation doesn't expose raw nodes
+   */
+  default Optional<Object> resolve(String path, String key) {
+    throw new UnsupportedOperationException("Resolving raw nodes is not supported by " + getClass().getName());
+  }
+
+  /**
+   * Set a value within an available config file, identified by it's key. The
+   * change is only kept in memory until the file is saved.
+   * @param path Path of the target config file (no leading slash, no .yml)
+   * @param key Key to identify the value, list indices are not supported
+   * @param value Value to set, null removes the key
+   * @return True if the value has been set, false if the file was unavailable
+   * @throws UnsupportedOperationException If the implementation is read-only
+   */
+  default boolean set(String path, String key, @Nullable Object value) {
+    throw new UnsupportedOperationException("Setting values is not supported by " + getClass().getName());
+  }
+
+  /**
+   * Request to save the in-memory state of a config file into it's file
+   * @param path Path of the target config file (no leading slash, no .yml)
+   * @throws UnsupportedOperationException If the implementation is read-only
+   */
+  default void save(String path) {
+    throw new UnsupportedOperationException("Saving is not supported by " + getClass().getName());
+  }
+
   /**
    * Get an advanced config reader for a given file
    * @param path Path of the target config file (no leading slash, no .yml)
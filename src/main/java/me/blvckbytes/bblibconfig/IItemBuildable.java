@@ -30,7 +30,7 @@ public interface IItemBuildable {
 
   /**
    * Build the item for a specific viewer
-   * @param variables Variables to apply
+   * @param variables Variables to apply, where variable scopes are layered on without copying
    * @param viewer Viewer viewing this customizable
    * @return Item built for the viewer
    */
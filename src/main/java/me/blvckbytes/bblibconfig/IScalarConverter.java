@@ -0,0 +1,37 @@
+package me.blvckbytes.bblibconfig;
+
+import java.util.Optional;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  Converts scalar config values into a specific target type, where
+  converters are resolved once per target type.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+@FunctionalInterface
+public interface IScalarConverter {
+
+  /**
+   * Convert a scalar value into the target type
+   * @param value Value as read from the config
+   * @param stringValue Trimmed string representation of the value, with variables substituted
+   * @return Converted value, empty if the conversion is impossible
+   * @throws Exception Conversion failed, which is treated like an impossible conversion
+   */
+  Optional<?> convert(Object value, String stringValue) throws Exception;
+
+}
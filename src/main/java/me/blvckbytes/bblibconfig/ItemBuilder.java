@@ -374,6 +374,9 @@ public class ItemBuilder implements IItemBuildable {
   public ItemStack build(@Nullable Map<String, String> variables, @Nullable ICustomizableViewer viewer) {
     ItemStack res = stack.clone();
 
+    // Resolve variables through a scope, so that no value has to be copied per field
+    VariableScope scope = VariableScope.of(variables);
+
     ItemMeta resMeta = res.getItemMeta();
 
     if (resMeta == null)
@@ -382,7 +385,7 @@ public class ItemBuilder implements IItemBuildable {
     //////////////////////////////////// Type ///////////////////////////////////
 
     if (cType != null) {
-      XMaterial type = cType.copy().withVariables(variables).asScalar(XMaterial.class);
+      XMaterial type = cType.renderScalar(XMaterial.class, scope);
 
       if (type != null) {
         type.setType(res);
@@ -396,7 +399,7 @@ public class ItemBuilder implements IItemBuildable {
     ////////////////////////////////// Amount ///////////////////////////////////
 
     if (cAmount != null) {
-      Integer amount = cAmount.copy().withVariables(variables).asScalar(Integer.class);
+      Integer amount = cAmount.renderScalar(Integer.class, scope);
 
       if (amount != null)
         res.setAmount(amount);
@@ -406,7 +409,7 @@ public class ItemBuilder implements IItemBuildable {
 
     if (name != null) {
       componentApplicator.setDisplayName(
-        name.copy().withVariables(variables).asComponent(gradientGenerator),
+        name.renderComponent(gradientGenerator, scope),
         viewer != null && viewer.cannotRenderHexColors(),
         res
       );
@@ -431,7 +434,7 @@ public class ItemBuilder implements IItemBuildable {
 
       // Extend by new lore lines
       for (ConfigValue line : lore)
-        lines.addAll(line.copy().withVariables(variables).asComponentList(gradientGenerator));
+        lines.addAll(line.renderComponentList(gradientGenerator, scope));
 
       componentApplicator.setLore(
         lines,
@@ -445,17 +448,17 @@ public class ItemBuilder implements IItemBuildable {
     /////////////////////////////////// Color //////////////////////////////////
 
     if (cColor != null)
-      applyColor(resMeta, cColor.copy().withVariables(variables).asScalar(Color.class));
+      applyColor(resMeta, cColor.renderScalar(Color.class, scope));
 
     ////////////////////////////////// Textures /////////////////////////////////
 
     if (cTextures != null)
-      applyTextures(resMeta, cTextures.copy().withVariables(variables).asScalar());
+      applyTextures(resMeta, cTextures.renderScalar(scope));
 
     //////////////////////////////// Base Effect ////////////////////////////////
 
     if (cBaseEffect != null)
-      applyBaseEffect(resMeta, cBaseEffect.asData(variables));
+      applyBaseEffect(resMeta, cBaseEffect.asData(scope));
 
     ////////////////////////////// Custom Effects ///////////////////////////////
 
@@ -465,7 +468,7 @@ public class ItemBuilder implements IItemBuildable {
 
       if (cCustomEffects.size() > 0) {
         ItemMeta finalResMeta = resMeta;
-        cCustomEffects.forEach(eff -> applyCustomEffect(finalResMeta, eff.asEffect(variables)));
+        cCustomEffects.forEach(eff -> applyCustomEffect(finalResMeta, eff.asEffect(scope)));
       }
     }
 
@@ -477,7 +480,7 @@ public class ItemBuilder implements IItemBuildable {
     if (cEnchantments.size() > 0) {
       ItemMeta finalResMeta = resMeta;
       cEnchantments.forEach(ench -> {
-        Tuple<Enchantment, Integer> enchantment = ench.asEnchantment(variables);
+        Tuple<Enchantment, Integer> enchantment = ench.asEnchantment(scope);
 
         // Invalid enchantment
         if (enchantment == null)
@@ -515,7 +518,7 @@ public class ItemBuilder implements IItemBuildable {
 
       if (cPatterns.size() > 0) {
         ItemMeta finalResMeta = resMeta;
-        cPatterns.forEach(p -> applyPattern(finalResMeta, p.asPattern(variables)));
+        cPatterns.forEach(p -> applyPattern(finalResMeta, p.asPattern(scope)));
       }
     }
 
@@ -525,7 +528,7 @@ public class ItemBuilder implements IItemBuildable {
 
   @Override
   public ItemBuilder copy() {
-    // Shallow list copies are enough, as config-values are always copied themselves
+    // Shallow list copies are enough, as config-values are never mutated while building
     return new ItemBuilder(
       new ItemStack(stack),
       meta.clone(),
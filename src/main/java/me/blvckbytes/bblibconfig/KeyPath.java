@@ -0,0 +1,323 @@
+package me.blvckbytes.bblibconfig;
+
+import org.bukkit.configuration.MemorySection;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Map;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  A config key which has been split up into it's levels once, where
+  each level consists of a name and an optional list index. Compiled
+  keys are cached, so that walking a path never requires any regex.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class KeyPath {
+
+  // Marks a level as not being indexed
+  private static final int NO_INDEX = -1;
+
+  private static final BoundedCache<String, KeyPath> cache = new BoundedCache<>(8192);
+
+  // Names of all levels
+  private final String[] names;
+
+  // Indices of all levels, NO_INDEX if a level doesn't index
+  private final int[] indices;
+
+  // Whether at least one level of the key indexes into a list
+  private final boolean indexed;
+
+  // Whether all index notations could be parsed
+  private final boolean valid;
+
+  private KeyPath(String[] names, int[] indices, boolean indexed, boolean valid) {
+    this.names = names;
+    this.indices = indices;
+    this.indexed = indexed;
+    this.valid = valid;
+  }
+
+  //=========================================================================//
+  //                                   API                                   //
+  //=========================================================================//
+
+  /**
+   * Get the compiled path of a key, which is only compiled on the first request
+   * @param key Key to compile
+   * @return Compiled key path
+   */
+  public static KeyPath of(String key) {
+    return cache.computeIfAbsent(key, KeyPath::compile);
+  }
+
+  /**
+   * Check whether a key equals a prefix key or is one of it's children
+   * @param key Key to check
+   * @param prefix Prefix key, the empty key is the prefix of all keys
+   */
+  public static boolean isWithin(String key, String prefix) {
+    if (prefix.isEmpty())
+      return true;
+
+    if (!key.startsWith(prefix))
+      return false;
+
+    // Either equal or continued by a child or an index notation
+    return (
+      key.length() == prefix.length() ||
+      key.charAt(prefix.length()) == '.' ||
+      key.charAt(prefix.length()) == '['
+    );
+  }
+
+  /**
+   * Get whether this key indexes into a list at least once
+   */
+  public boolean isIndexed() {
+    return indexed;
+  }
+
+  /**
+   * Get whether all index notations of this key could be parsed
+   */
+  public boolean isValid() {
+    return valid;
+  }
+
+  /**
+   * Get the number of levels of this key
+   */
+  public int size() {
+    return names.length;
+  }
+
+  /**
+   * Get the name of a level
+   * @param level Level to get the name of
+   */
+  public String getName(int level) {
+    return names[level];
+  }
+
+  /**
+   * Get the index of a level
+   * @param level Level to get the index of
+   * @return Index, or -1 if the level doesn't index
+   */
+  public int getIndex(int level) {
+    return indices[level];
+  }
+
+  /**
+   * Get the canonical form of this key, which joins all levels with their parsed
+   * indices, so that equivalent index notations like a[00] and a[0] become equal
+   * @return Canonical key, null if an index notation could not be parsed
+   */
+  public @Nullable String toCanonical() {
+    if (!valid)
+      return null;
+
+    StringBuilder res = new StringBuilder();
+
+    for (int i = 0; i < names.length; i++) {
+      if (i > 0)
+        res.append('.');
+
+      res.append(names[i]);
+
+      if (indices[i] != NO_INDEX)
+        res.append('[').append(indices[i]).append(']');
+    }
+
+    return res.toString();
+  }
+
+  /**
+   * Walk this path, starting at the provided root object, where all leading levels
+   * which don't index are looked up at once on sections, so that lazily loaded
+   * configs only materialize the keys which the path actually depends on
+   * @param root Root to start walking at
+   * @return Value at the end of the path, null if unresolvable
+   */
+  public @Nullable Object resolve(@Nullable Object root) {
+    // Contained an unparsable index notation
+    if (!valid)
+      return null;
+
+    Object obj = root;
+    int start = 0;
+
+    if (root instanceof MemorySection) {
+      StringBuilder plain = new StringBuilder();
+
+      // Leading levels of a section are sections themselves, as maps only occur within
+      // lists, up to and including the name of the first level which indexes
+      do {
+        if (start > 0)
+          plain.append('.');
+
+        plain.append(names[start]);
+      } while (indices[start++] == NO_INDEX && start < names.length);
+
+      obj = atIndex(((MemorySection) root).get(plain.toString()), indices[start - 1]);
+
+      if (obj == null)
+        return null;
+    }
+
+    for (int i = start; i < names.length; i++) {
+      obj = resolveLevel(obj, i);
+
+      // Cannot resolve further
+      if (obj == null)
+        return null;
+    }
+
+    return obj;
+  }
+
+  /**
+   * Walk a single level of this path, starting at the provided object
+   * @param obj Object to start walking at
+   * @param level Level to walk
+   * @return Value of the level, null if unresolvable
+   */
+  public @Nullable Object resolveLevel(@Nullable Object obj, int level) {
+    String name = names[level];
+
+    // Maps are usually encountered when indexing into memory sections
+    if (obj instanceof Map<?, ?>)
+      obj = ((Map<?, ?>) obj).get(name);
+
+    // Memory sections are usually encountered at top level scope
+    else if (obj instanceof MemorySection)
+      obj = ((MemorySection) obj).get(name);
+
+    // Unknown data-structure, cannot get the key
+    else
+      return null;
+
+    return atIndex(obj, indices[level]);
+  }
+
+  //=========================================================================//
+  //                                Utilities                                //
+  //=========================================================================//
+
+  /**
+   * Index into the value of a level
+   * @param obj Value of the level
+   * @param index Index of the level
+   * @return Indexed list item, the value itself if the level doesn't index, null if unresolvable
+   */
+  private static @Nullable Object atIndex(@Nullable Object obj, int index) {
+    // Not indexing on this level
+    if (index == NO_INDEX)
+      return obj;
+
+    // Can only index when the result is a list
+    if (!(obj instanceof List<?>))
+      return null;
+
+    List<?> l = (List<?>) obj;
+
+    // Out of range
+    if (index >= l.size())
+      return null;
+
+    // Retrieve the target list item
+    return l.get(index);
+  }
+
+  /**
+   * Compile a key by splitting it into it's levels and parsing index notations
+   * @param key Key to compile
+   * @return Compiled key path
+   */
+  private static KeyPath compile(String key) {
+    String[] levels = key.split("\\.");
+    int[] indices = new int[levels.length];
+    boolean indexed = false, valid = true;
+
+    for (int i = 0; i < levels.length; i++) {
+      String level = levels[i];
+      indices[i] = NO_INDEX;
+
+      // Only levels ending in [<digits>] are indexing
+      if (!endsWithIndex(level))
+        continue;
+
+      // Get the requested index and splice off the index notation
+      int open = level.indexOf('[');
+      String index = level.substring(open + 1, level.indexOf(']'));
+      levels[i] = level.substring(0, open);
+      indexed = true;
+
+      try {
+        indices[i] = Integer.parseInt(index);
+      }
+
+      // Invalid index provided
+      catch (NumberFormatException e) {
+        valid = false;
+      }
+    }
+
+    // Also indexing if there's an index notation somewhere within a level
+    if (!indexed)
+      indexed = containsIndex(key);
+
+    return new KeyPath(levels, indices, indexed, valid);
+  }
+
+  /**
+   * Checks whether a level ends in an index notation of the form [<digits>]
+   * @param level Level to check
+   */
+  private static boolean endsWithIndex(String level) {
+    int len = level.length();
+
+    if (len < 3 || level.charAt(len - 1) != ']')
+      return false;
+
+    int i = len - 2;
+    while (i >= 0 && Character.isDigit(level.charAt(i)))
+      i--;
+
+    // Needs at least one digit, preceded by an opening bracket
+    return i >= 0 && i < len - 2 && level.charAt(i) == '[';
+  }
+
+  /**
+   * Checks whether a key contains an index notation of the form [<digits>] anywhere
+   * @param key Key to check
+   */
+  private static boolean containsIndex(String key) {
+    for (int i = key.indexOf('['); i >= 0; i = key.indexOf('[', i + 1)) {
+      int j = i + 1;
+      while (j < key.length() && Character.isDigit(key.charAt(j)))
+        j++;
+
+      if (j > i + 1 && j < key.length() && key.charAt(j) == ']')
+        return true;
+    }
+
+    return false;
+  }
+}
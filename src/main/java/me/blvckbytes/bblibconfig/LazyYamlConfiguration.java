@@ -0,0 +1,654 @@
+package me.blvckbytes.bblibconfig;
+
+import me.blvckbytes.bblibutil.logger.ILogger;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.MemorySection;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  A yaml configuration which keeps each key of it's split level as a raw, unparsed
+  span of text until it's first accessed, which reduces the time needed to load huge
+  files as well as their resident size when only few keys are ever requested. The
+  split level is the first level which has more than a single key, so that files
+  which wrap all of their keys into a single section can be loaded lazily as well.
+
+  All accessors of the root section are synchronized, as materializing a span
+  mutates the root. Materialized sections are never changed afterwards.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class LazyYamlConfiguration extends YamlConfiguration {
+
+  // Anchors and aliases may reference across top level keys, directives affect the whole document
+  private static final Pattern UNSPLITTABLE = Pattern.compile("(^\\s*|[:\\-\\[{,]\\s+|[\\[{,])[&*]\\S|^(%|---|\\.\\.\\.)", Pattern.MULTILINE);
+
+  // Path of the section whose keys are split up, empty if the root is split up
+  private final String prefix;
+
+  // Lines which open all sections of the prefix, prepended to spans before parsing them
+  private final String wrapper;
+
+  // Keys of the split level in order of their appearance
+  private final List<String> keys;
+
+  // Raw spans of all not yet materialized keys of the split level
+  private final Map<String, String> spans;
+
+  private final @Nullable ILogger logger;
+
+  // Whether calls are passed through without materializing, as they stem from this class itself
+  private boolean passThrough;
+
+  private LazyYamlConfiguration(
+    String prefix,
+    String wrapper,
+    List<String> keys,
+    Map<String, String> spans,
+    @Nullable ILogger logger
+  ) {
+    this.prefix = prefix;
+    this.wrapper = wrapper;
+    this.keys = keys;
+    this.spans = spans;
+    this.logger = logger;
+
+    // Sections of the prefix always exist, as they contain the split level, while creating
+    // them looks up their parents, which would otherwise materialize all spans beforehand
+    if (!prefix.isEmpty())
+      passThrough(() -> super.createSection(prefix));
+  }
+
+  //=========================================================================//
+  //                                   API                                   //
+  //=========================================================================//
+
+  /**
+   * Split a yaml document into the spans of it's split level without parsing any of them
+   * @param content Yaml document
+   * @param logger Logger to report malformed spans to once they're materialized, optional
+   * @return Lazy configuration, null if the document cannot be split safely
+   */
+  public static @Nullable LazyYamlConfiguration split(String content, @Nullable ILogger logger) {
+    if (UNSPLITTABLE.matcher(content).find())
+      return null;
+
+    String[] lines = content.split("\r?\n", -1);
+
+    // Skip leading comments and blank lines up to the first top level key
+    int start = 0;
+    while (start < lines.length && !(isContent(lines[start]) && indentOf(lines[start]) == 0))
+      start++;
+
+    List<String> keys = new ArrayList<>();
+    Map<String, String> spans = new HashMap<>();
+
+    if (!scan(lines, start, 0, keys, spans))
+      return null;
+
+    String prefix = "";
+    StringBuilder wrapper = new StringBuilder();
+    int indent = 0;
+
+    // Descend as long as the level consists of a single section, which would otherwise be materialized as a whole
+    while (keys.size() == 1) {
+      String key = keys.get(0);
+      String[] span = spans.get(key).split("\n", -1);
+      int childIndent = childIndentOf(span);
+
+      // Not a block of nested keys
+      if (!opensBlock(span[0].substring(indent)) || childIndent <= indent)
+        break;
+
+      List<String> childKeys = new ArrayList<>();
+      Map<String, String> childSpans = new HashMap<>();
+
+      // Not splittable any further, keep splitting at the current level
+      if (!scan(span, 1, childIndent, childKeys, childSpans) || childKeys.isEmpty())
+        break;
+
+      wrapper.append(span[0]).append('\n');
+      prefix = prefix.isEmpty() ? key : prefix + "." + key;
+      indent = childIndent;
+      keys = childKeys;
+      spans = childSpans;
+    }
+
+    LazyYamlConfiguration res = new LazyYamlConfiguration(prefix, wrapper.toString(), keys, spans, logger);
+
+    // Leading comments make up the header, read exactly like when loading eagerly
+    String header = res.parseHeader(content);
+    if (!header.isEmpty())
+      res.options().header(header);
+
+    return res;
+  }
+
+  @Override
+  public synchronized Object get(String path, Object def) {
+    if (passThrough)
+      return super.get(path, def);
+
+    materializeFor(path);
+    return passThrough(() -> super.get(path, def));
+  }
+
+  @Override
+  public synchronized Set<String> getKeys(boolean deep) {
+    if (passThrough)
+      return super.getKeys(deep);
+
+    if (deep || !prefix.isEmpty()) {
+      // Keys of the root are those of the prefix, which always exist
+      if (deep)
+        materializeAll();
+
+      return passThrough(() -> super.getKeys(deep));
+    }
+
+    Set<String> materialized = passThrough(() -> super.getKeys(false));
+    Set<String> res = new LinkedHashSet<>();
+
+    // Keep the order of the file, while skipping keys which have been removed since
+    for (String key : keys) {
+      if (spans.containsKey(key) || materialized.contains(key))
+        res.add(key);
+    }
+
+    res.addAll(materialized);
+    return res;
+  }
+
+  @Override
+  public synchronized Map<String, Object> getValues(boolean deep) {
+    if (!passThrough)
+      materializeAll();
+
+    return passThrough(() -> super.getValues(deep));
+  }
+
+  @Override
+  public synchronized void set(String path, Object value) {
+    if (!passThrough)
+      materializeFor(path);
+
+    passThrough(() -> {
+      super.set(path, value);
+      return null;
+    });
+  }
+
+  @Override
+  public synchronized ConfigurationSection createSection(String path) {
+    if (!passThrough)
+      materializeFor(path);
+
+    return passThrough(() -> super.createSection(path));
+  }
+
+  @Override
+  public synchronized String saveToString() {
+    if (!passThrough)
+      materializeAll();
+
+    return passThrough(super::saveToString);
+  }
+
+  /**
+   * Get the number of keys of the split level which have not yet been materialized
+   */
+  public synchronized int getPendingCount() {
+    return spans.size();
+  }
+
+  /**
+   * Get the path of the section whose keys are split up, empty if the root is split up
+   */
+  public String getPrefix() {
+    return prefix;
+  }
+
+  //=========================================================================//
+  //                                Utilities                                //
+  //=========================================================================//
+
+  /**
+   * Collect the keys and spans of a level, which starts at a given line and
+   * ends with the lines, where each of it's keys is indented equally
+   * @param lines Lines to scan, where the first line doesn't continue any previous lines
+   * @param start Index of the first line of the level
+   * @param indent Indentation of the level's keys
+   * @param keys List of keys to collect into, in order of their appearance
+   * @param spans Mapping of keys to their spans to collect into
+   * @return True if the level could be split up, false otherwise
+   */
+  private static boolean scan(String[] lines, int start, int indent, List<String> keys, Map<String, String> spans) {
+    boolean[] continued = continuations(lines);
+
+    // Ends within a quoted scalar or a flow collection
+    if (continued == null)
+      return false;
+
+    String key = null;
+    boolean block = false;
+    StringBuilder span = new StringBuilder();
+
+    for (int i = start; i < lines.length; i++) {
+      String line = lines[i];
+
+      // Continuation of the current span, comment, blank line, deeper indented content,
+      // multi-line scalar or collection or sequence item which is not indented within it's key
+      if (
+        continued[i] || !isContent(line) || indentOf(line) > indent ||
+        (block && isSequenceItem(line.substring(indent)))
+      ) {
+        if (key != null)
+          span.append(line).append('\n');
+
+        continue;
+      }
+
+      // Less indented content doesn't belong to this level
+      if (indentOf(line) < indent)
+        return false;
+
+      String nextKey = parseKey(line.substring(indent));
+
+      // Not a plain key, which may be a list or a complex key, or a duplicate
+      if (nextKey == null || nextKey.equals(key) || spans.containsKey(nextKey))
+        return false;
+
+      if (key != null)
+        spans.put(key, span.toString());
+
+      key = nextKey;
+      keys.add(key);
+      block = opensBlock(line.substring(indent));
+      span = new StringBuilder(line).append('\n');
+    }
+
+    if (key != null)
+      spans.put(key, span.toString());
+
+    return true;
+  }
+
+  /**
+   * Find all lines which continue a multi-line construct of their previous lines, which
+   * are quoted scalars and flow collections spanning multiple lines as well as the
+   * bodies of block scalars, as their lines may look just like keys of any level
+   * @param lines Lines to check, where the first line doesn't continue any previous lines
+   * @return Continuation flag of each line, null if the last line leaves a construct open
+   */
+  private static @Nullable boolean[] continuations(String[] lines) {
+    boolean[] res = new boolean[lines.length];
+
+    // Quote character of the currently open quoted scalar, zero if none is open
+    char quote = 0;
+
+    // Number of currently open flow collections
+    int flowDepth = 0;
+
+    // Indentation of the line which opened the current block scalar, -1 if none is open
+    int blockIndent = -1;
+
+    for (int i = 0; i < lines.length; i++) {
+      String line = lines[i];
+      int indent = indentOf(line);
+
+      if (blockIndent >= 0) {
+        // Blank and deeper indented lines make up the block scalar's body
+        if (line.isBlank() || indent > blockIndent) {
+          res[i] = true;
+          continue;
+        }
+
+        blockIndent = -1;
+      }
+
+      res[i] = quote != 0 || flowDepth > 0;
+
+      // Whether the next character starts a value, which is where quotes and collections may open
+      boolean valueStart = true;
+
+      for (int j = res[i] ? 0 : indent; j < line.length(); j++) {
+        char c = line.charAt(j);
+        boolean spaced = j + 1 == line.length() || Character.isWhitespace(line.charAt(j + 1));
+
+        if (quote == '"') {
+          // Escaped characters never close the scalar
+          if (c == '\\')
+            j++;
+          else if (c == '"')
+            quote = 0;
+
+          continue;
+        }
+
+        if (quote == '\'') {
+          // Doubled quotes are escaped quotes
+          if (c == '\'' && j + 1 < line.length() && line.charAt(j + 1) == '\'')
+            j++;
+          else if (c == '\'')
+            quote = 0;
+
+          continue;
+        }
+
+        if (Character.isWhitespace(c))
+          continue;
+
+        // The remainder of the line is a comment
+        if (c == '#' && (j == 0 || Character.isWhitespace(line.charAt(j - 1))))
+          break;
+
+        if (valueStart && (c == '"' || c == '\'')) {
+          quote = c;
+          valueStart = false;
+          continue;
+        }
+
+        // The remainder of the line holds indicators of the block scalar's body
+        if (valueStart && flowDepth == 0 && (c == '|' || c == '>')) {
+          blockIndent = indent;
+          break;
+        }
+
+        // Tags precede the value they're applied to
+        if (valueStart && c == '!') {
+          while (j + 1 < line.length() && !Character.isWhitespace(line.charAt(j + 1)))
+            j++;
+
+          continue;
+        }
+
+        if ((valueStart || flowDepth > 0) && (c == '[' || c == '{')) {
+          flowDepth++;
+          valueStart = true;
+          continue;
+        }
+
+        if (flowDepth > 0 && (c == ']' || c == '}')) {
+          flowDepth--;
+          valueStart = false;
+          continue;
+        }
+
+        // Separators of entries, mapping values and sequence items
+        if ((flowDepth > 0 && c == ',') || (c == ':' && (spaced || flowDepth > 0)) || (c == '-' && spaced && valueStart)) {
+          valueStart = true;
+          continue;
+        }
+
+        valueStart = false;
+      }
+    }
+
+    return quote != 0 || flowDepth > 0 ? null : res;
+  }
+
+  /**
+   * Check whether a line is an item of a block sequence
+   * @param line Line to check, without indentation
+   */
+  private static boolean isSequenceItem(String line) {
+    return line.charAt(0) == '-' && (line.length() == 1 || Character.isWhitespace(line.charAt(1)));
+  }
+
+  /**
+   * Check whether a line carries content, which means that it's neither blank nor a comment
+   * @param line Line to check
+   */
+  private static boolean isContent(String line) {
+    String stripped = line.stripLeading();
+    return !stripped.isEmpty() && stripped.charAt(0) != '#';
+  }
+
+  /**
+   * Get the indentation of a line
+   * @param line Line to get the indentation of
+   * @return Number of leading whitespace characters
+   */
+  private static int indentOf(String line) {
+    int i = 0;
+    while (i < line.length() && Character.isWhitespace(line.charAt(i)))
+      i++;
+    return i;
+  }
+
+  /**
+   * Get the indentation of the first content line following the first line of a span
+   * @param span Lines of the span
+   * @return Indentation, -1 if there is no such line
+   */
+  private static int childIndentOf(String[] span) {
+    for (int i = 1; i < span.length; i++) {
+      if (isContent(span[i]))
+        return indentOf(span[i]);
+    }
+
+    return -1;
+  }
+
+  /**
+   * Find the colon which separates a plain key from it's value
+   * @param line Line of the form key: value
+   * @return Index of the colon, -1 if there is none
+   */
+  private static int colonOf(String line) {
+    int colon = line.indexOf(':');
+    while (colon >= 0 && colon + 1 < line.length() && !Character.isWhitespace(line.charAt(colon + 1)))
+      colon = line.indexOf(':', colon + 1);
+
+    return colon;
+  }
+
+  /**
+   * Parse the key of a line of the form key: value
+   * @param line Line to parse, without indentation
+   * @return Key, null if the line doesn't start with a plain key
+   */
+  private static @Nullable String parseKey(String line) {
+    char first = line.charAt(0);
+
+    // Lists, quoted keys, flow collections and other indicators are not supported
+    if ("-?:,[]{}#&*!|>'\"%@`".indexOf(first) >= 0)
+      return null;
+
+    int colon = colonOf(line);
+
+    if (colon < 0)
+      return null;
+
+    String key = line.substring(0, colon).trim();
+
+    // Keys containing the path separator would create nested sections
+    if (key.isEmpty() || key.indexOf('.') >= 0)
+      return null;
+
+    return key;
+  }
+
+  /**
+   * Check whether a line of the form key: value opens a block, which is the case if
+   * there's no value on the line itself, so that the value consists of nested lines
+   * @param line Line to check, without indentation
+   */
+  private static boolean opensBlock(String line) {
+    String value = line.substring(colonOf(line) + 1).trim();
+    return value.isEmpty() || value.startsWith("#");
+  }
+
+  /**
+   * Materialize all spans which a path depends on, where paths which address the
+   * prefix or one of it's parents depend on all spans, as they contain all of them
+   * @param path Path to materialize the spans of
+   */
+  private void materializeFor(String path) {
+    // The root itself is materialized on access of it's keys
+    if (path.isEmpty())
+      return;
+
+    if (prefix.isEmpty()) {
+      materialize(firstLevel(path));
+      return;
+    }
+
+    // Below the prefix, only the corresponding key of the split level is required
+    if (path.startsWith(prefix + ".")) {
+      materialize(firstLevel(path.substring(prefix.length() + 1)));
+      return;
+    }
+
+    // The prefix or one of it's parents
+    if (KeyPath.isWithin(prefix, path))
+      materializeAll();
+  }
+
+  /**
+   * Get the first level of a path
+   * @param path Path to get the first level of
+   */
+  private String firstLevel(String path) {
+    int dot = path.indexOf('.');
+    return dot < 0 ? path : path.substring(0, dot);
+  }
+
+  /**
+   * Materialize all keys which have not yet been materialized
+   */
+  private void materializeAll() {
+    if (spans.isEmpty())
+      return;
+
+    for (String key : keys)
+      materialize(key);
+
+    passThrough(() -> {
+      reorder(prefix.isEmpty() ? this : super.getConfigurationSection(prefix));
+      return null;
+    });
+  }
+
+  /**
+   * Restore the order of the file within the section holding the split level, as keys are
+   * materialized in the order of their access, while keys which have been added since
+   * are kept in their order after the keys of the file
+   * @param section Section holding the split level
+   */
+  private void reorder(@Nullable ConfigurationSection section) {
+    if (section == null)
+      return;
+
+    Map<String, Object> values = section.getValues(false);
+    List<String> order = new ArrayList<>();
+
+    for (String key : keys) {
+      if (values.containsKey(key))
+        order.add(key);
+    }
+
+    for (String key : values.keySet()) {
+      if (!order.contains(key))
+        order.add(key);
+    }
+
+    // Already in order
+    if (order.equals(new ArrayList<>(values.keySet())))
+      return;
+
+    for (String key : order)
+      section.set(key, null);
+
+    for (String key : order)
+      section.set(key, values.get(key));
+  }
+
+  /**
+   * Materialize a key of the split level by parsing it's span, if not yet done
+   * @param key Key to materialize
+   */
+  private void materialize(String key) {
+    String span = spans.remove(key);
+
+    // Unknown or already materialized
+    if (span == null)
+      return;
+
+    String path = prefix.isEmpty() ? key : prefix + "." + key;
+
+    try {
+      YamlConfiguration cfg = new YamlConfiguration();
+      cfg.loadFromString(wrapper + span);
+
+      Object value = cfg.get(path);
+
+      passThrough(() -> {
+        // Sections are re-created on this root, as they're bound to their own root
+        if (value instanceof MemorySection)
+          super.createSection(path, toMap((MemorySection) value));
+        else
+          super.set(path, value);
+
+        return null;
+      });
+    } catch (InvalidConfigurationException e) {
+      // Malformed spans are treated as missing, just like a malformed file would be
+      if (logger == null)
+        e.printStackTrace();
+      else
+        logger.logError(e);
+    }
+  }
+
+  /**
+   * Run a call on the underlying configuration without materializing
+   * any spans, as it may call back into the accessors of this class
+   * @param call Call to run
+   * @return Result of the call
+   */
+  private <T> T passThrough(Supplier<T> call) {
+    boolean previous = passThrough;
+    passThrough = true;
+
+    try {
+      return call.get();
+    } finally {
+      passThrough = previous;
+    }
+  }
+
+  /**
+   * Convert a section and all of it's child sections into plain maps
+   * @param section Section to convert
+   * @return Converted map
+   */
+  private Map<String, Object> toMap(MemorySection section) {
+    Map<String, Object> res = new LinkedHashMap<>();
+
+    section.getValues(false).forEach((k, v) -> res.put(
+      k, v instanceof MemorySection ? toMap((MemorySection) v) : v
+    ));
+
+    return res;
+  }
+}
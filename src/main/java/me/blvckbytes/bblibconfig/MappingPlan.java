@@ -0,0 +1,218 @@
+package me.blvckbytes.bblibconfig;
+
+import lombok.Getter;
+import me.blvckbytes.bblibconfig.sections.CSAlways;
+import me.blvckbytes.bblibconfig.sections.CSIgnore;
+import me.blvckbytes.bblibconfig.sections.CSInlined;
+import me.blvckbytes.bblibconfig.sections.CSMap;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  The precompiled plan of how to map a config section class, which holds the
+  ordered bindings of all of it's fields. Plans are created once per class
+  and then shared, so that mapping never repeats any field discovery.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class MappingPlan {
+
+  private static final MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+  private static final ClassValue<MappingPlan> plans = new ClassValue<>() {
+
+    @Override
+    protected MappingPlan computeValue(Class<?> type) {
+      return compile(type);
+    }
+  };
+
+  // Class this plan maps
+  private final Class<?> type;
+
+  // Empty constructor of the class, of type ()AConfigSection, null if there's none
+  private final @Nullable MethodHandle constructor;
+
+  // All fields of the class, including ignored fields, in mapping order, never handed out to sections
+  @Getter private final List<Field> fields;
+
+  // Bindings of all fields which are to be mapped, in mapping order
+  @Getter private final List<FieldBinding> bindings;
+
+  private MappingPlan(Class<?> type, @Nullable MethodHandle constructor, List<Field> fields, List<FieldBinding> bindings) {
+    this.type = type;
+    this.constructor = constructor;
+    this.fields = fields;
+    this.bindings = bindings;
+  }
+
+  //=========================================================================//
+  //                                   API                                   //
+  //=========================================================================//
+
+  /**
+   * Get the plan of a config section class, which is only compiled on the first request
+   * @param type Class to get the plan of
+   * @return Mapping plan
+   */
+  public static MappingPlan of(Class<? extends AConfigSection> type) {
+    return plans.get(type);
+  }
+
+  /**
+   * Create a new, empty instance of the planned class
+   * @return Created instance
+   * @throws NoSuchMethodException The class has no public empty constructor
+   */
+  public AConfigSection instantiate() throws Exception {
+    if (constructor == null)
+      throw new NoSuchMethodException(type.getName() + ".<init>()");
+
+    try {
+      return (AConfigSection) constructor.invokeExact();
+    } catch (Exception | Error e) {
+      throw e;
+    } catch (Throwable t) {
+      throw new IllegalStateException(t);
+    }
+  }
+
+  //=========================================================================//
+  //                                Utilities                                //
+  //=========================================================================//
+
+  /**
+   * Compile the plan of a class by discovering and ordering all of it's fields
+   * @param type Class to compile
+   * @return Compiled plan
+   */
+  private static MappingPlan compile(Class<?> type) {
+    List<Field> fields = findFields(type).stream()
+      .sorted((a, b) -> {
+        if (a.getType() == Object.class && b.getType() == Object.class)
+          return 0;
+
+        // Objects are "greater", so they'll be last when sorting ASC
+        return a.getType() == Object.class ? 1 : -1;
+      })
+      .collect(Collectors.toList());
+
+    List<FieldBinding> bindings = new ArrayList<>();
+
+    for (Field field : fields) {
+      // Ignore fields marked for ignore
+      if (field.getAnnotation(CSIgnore.class) != null)
+        continue;
+
+      // Static fields are not part of an instance's state
+      if (Modifier.isStatic(field.getModifiers()))
+        continue;
+
+      field.setAccessible(true);
+
+      bindings.add(new FieldBinding(
+        field,
+        field.getName(),
+        field.getType(),
+        // A field is marked as always by either being directly marked, or by being the member of a marked class
+        field.isAnnotationPresent(CSAlways.class) || type.isAnnotationPresent(CSAlways.class),
+        field.getAnnotation(CSInlined.class) != null,
+        field.getAnnotation(CSMap.class),
+        createSetter(field)
+      ));
+    }
+
+    return new MappingPlan(
+      type, createConstructor(type),
+      Collections.unmodifiableList(fields), Collections.unmodifiableList(bindings)
+    );
+  }
+
+  /**
+   * Create a handle to the public empty constructor of a class
+   * @param type Class to create the handle for
+   * @return Handle of type ()AConfigSection, null if there's no such constructor
+   */
+  private static @Nullable MethodHandle createConstructor(Class<?> type) {
+    try {
+      return lookup.unreflectConstructor(type.getConstructor())
+        .asType(MethodType.methodType(AConfigSection.class));
+    }
+
+    // No empty constructor or an abstract class, fails when instantiating
+    catch (NoSuchMethodException | IllegalAccessException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Create a setter handle for an accessible field. Setters of final fields cannot
+   * be unreflected, while sections always had their final fields mapped through
+   * reflection. Such fields are thus bound to Field.set instead, which keeps mapping
+   * them through reflective access, measured by FieldSetterBenchmark.
+   * @param field Field to create the setter for
+   * @return Handle of type (Object, Object)void
+   */
+  private static MethodHandle createSetter(Field field) {
+    MethodHandle setter;
+
+    try {
+      setter = lookup.unreflectSetter(field);
+    }
+
+    // Final fields may only be written through reflection
+    catch (IllegalAccessException e) {
+      try {
+        setter = lookup.findVirtual(Field.class, "set", MethodType.methodType(void.class, Object.class, Object.class))
+          .bindTo(field);
+      } catch (NoSuchMethodException | IllegalAccessException ex) {
+        throw new IllegalStateException(ex);
+      }
+    }
+
+    return setter.asType(MethodType.methodType(void.class, Object.class, Object.class));
+  }
+
+  /**
+   * Finds all fields of a class while accounting for inheritance
+   * @param c Target class
+   * @return List of found fields
+   */
+  private static List<Field> findFields(Class<?> c) {
+    List<Field> res = new ArrayList<>();
+
+    // Walk superclass hierarchy and collect all fields
+    Class<?> curr = c;
+    while (curr != null && curr != Object.class) {
+      res.addAll(Arrays.asList(curr.getDeclaredFields()));
+      curr = curr.getSuperclass();
+    }
+
+    return res;
+  }
+}
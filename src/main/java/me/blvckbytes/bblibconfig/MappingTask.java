@@ -0,0 +1,123 @@
+package me.blvckbytes.bblibconfig;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  Maps a range of independent elements by their index, where the range is
+  split up recursively until it's small enough to be mapped sequentially.
+  Results are stored by index, which keeps them in a deterministic order.
+  Mapping may end at the first result which marks the end, where no elements
+  after the lowest end found so far are mapped anymore.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class MappingTask<T> extends RecursiveAction {
+
+  // Number of elements below which a range is no longer split up
+  private static final int CHUNK_SIZE = 16;
+
+  private final IntFunction<T> mapper;
+  private final @Nullable Predicate<T> isEnd;
+  private final Object[] results;
+  private final AtomicInteger end;
+  private final int from, to;
+
+  /**
+   * Create a new task which maps all elements of a range
+   * @param mapper Mapper of an element's index to it's result
+   * @param isEnd Whether a result marks the end, null to map all elements
+   * @param results Array to store the results in, by index
+   * @param from Start of the range (inclusive)
+   * @param to End of the range (exclusive)
+   */
+  public MappingTask(IntFunction<T> mapper, @Nullable Predicate<T> isEnd, Object[] results, int from, int to) {
+    this(mapper, isEnd, results, new AtomicInteger(to), from, to);
+  }
+
+  /**
+   * Create a new task which maps all elements of a range
+   * @param mapper Mapper of an element's index to it's result
+   * @param isEnd Whether a result marks the end, null to map all elements
+   * @param results Array to store the results in, by index
+   * @param end Index of the lowest result which marked the end, shared by all subtasks
+   * @param from Start of the range (inclusive)
+   * @param to End of the range (exclusive)
+   */
+  private MappingTask(IntFunction<T> mapper, @Nullable Predicate<T> isEnd, Object[] results, AtomicInteger end, int from, int to) {
+    this.mapper = mapper;
+    this.isEnd = isEnd;
+    this.results = results;
+    this.end = end;
+    this.from = from;
+    this.to = to;
+  }
+
+  //=========================================================================//
+  //                                   API                                   //
+  //=========================================================================//
+
+  /**
+   * Get the index after the first result which marked the end, or the end of the range,
+   * where all elements of the range before this index are mapped once this task completed
+   */
+  public int getMappedUntil() {
+    return Math.min(end.get() + 1, to);
+  }
+
+  /**
+   * Whether any result within the range marked the end
+   */
+  public boolean hasEnded() {
+    return end.get() < to;
+  }
+
+  @Override
+  protected void compute() {
+    // Small enough, map sequentially
+    if (to - from <= CHUNK_SIZE) {
+      for (int i = from; i < to; i++) {
+        // An element before this one already marked the end
+        if (i > end.get())
+          return;
+
+        T result = mapper.apply(i);
+        results[i] = result;
+
+        if (isEnd != null && isEnd.test(result)) {
+          end.accumulateAndGet(i, Math::min);
+          return;
+        }
+      }
+      return;
+    }
+
+    // The whole range lies after an element which marked the end
+    if (from > end.get())
+      return;
+
+    int mid = (from + to) >>> 1;
+    invokeAll(
+      new MappingTask<>(mapper, isEnd, results, end, from, mid),
+      new MappingTask<>(mapper, isEnd, results, end, mid, to)
+    );
+  }
+}
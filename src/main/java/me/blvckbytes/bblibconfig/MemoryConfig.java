@@ -0,0 +1,325 @@
+package me.blvckbytes.bblibconfig;
+
+import me.blvckbytes.bblibconfig.expressions.IExpressionEvaluator;
+import me.blvckbytes.bblibutil.Tuple;
+import me.blvckbytes.bblibutil.logger.ILogger;
+import org.jetbrains.annotations.Nullable;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.constructor.SafeConstructor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  A config which keeps plain trees of nested maps and lists in memory and
+  neither requires a plugin nor a data folder, which makes it usable within
+  tests, benchmarks and offline tooling. Keys are resolved just like within
+  the YamlConfig, including list index notations. The Bukkit API still needs
+  to be on the classpath, as resolving keys, indexing and reading check for
+  it's section types, but no server needs to be running.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class MemoryConfig implements IConfig {
+
+  // Mapping config paths to their root nodes and indices, where
+  // both are replaced as a whole on changes and never mutated
+  private final Map<String, Tuple<Map<String, Object>, PathIndex>> configs;
+  private final Map<String, ConfigReader> readers;
+
+  private final @Nullable IExpressionEvaluator evaluator;
+  private final @Nullable ILogger logger;
+
+  /**
+   * Create a new, empty in-memory config
+   * @param evaluator Expression evaluator to pass into values, optional
+   * @param logger Logger to pass into readers, optional
+   */
+  public MemoryConfig(@Nullable IExpressionEvaluator evaluator, @Nullable ILogger logger) {
+    this.configs = new ConcurrentHashMap<>();
+    this.readers = new ConcurrentHashMap<>();
+    this.evaluator = evaluator;
+    this.logger = logger;
+  }
+
+  //=========================================================================//
+  //                                   API                                   //
+  //=========================================================================//
+
+  /**
+   * Load a config from a tree of nested maps and lists, replacing any previous
+   * config of the same path. The tree is copied and thus may be reused by the caller.
+   * @param path Path of the target config (no leading slash, no .yml)
+   * @param root Root node of the tree
+   */
+  public MemoryConfig load(String path, Map<?, ?> root) {
+    publish(path, copyMap(root));
+    return this;
+  }
+
+  /**
+   * Load a config from a yaml string, replacing any previous config of the same path
+   * @param path Path of the target config (no leading slash, no .yml)
+   * @param yaml Yaml document, an empty document yields an empty config
+   * @throws IllegalArgumentException The document is malformed or not a map at top level
+   */
+  public MemoryConfig load(String path, String yaml) {
+    Object root;
+
+    try {
+      // Yaml instances are not thread-safe, thus create one per call, where
+      // only standard types may be constructed, just like within Bukkit
+      root = new Yaml(new SafeConstructor()).load(yaml);
+    } catch (RuntimeException e) {
+      throw new IllegalArgumentException("Malformed yaml for config " + path, e);
+    }
+
+    if (root == null)
+      root = Map.of();
+
+    if (!(root instanceof Map<?, ?>))
+      throw new IllegalArgumentException("The top level of config " + path + " is not a map");
+
+    return load(path, (Map<?, ?>) root);
+  }
+
+  /**
+   * Load a config from a yaml file, replacing any previous config of the same path
+   * @param path Path of the target config (no leading slash, no .yml)
+   * @param file Yaml file to read
+   */
+  public MemoryConfig load(String path, Path file) throws IOException {
+    return load(path, new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Load a config from a yaml resource, replacing any previous config of the same path
+   * @param path Path of the target config (no leading slash, no .yml)
+   * @param loader Class loader to resolve the resource with
+   * @param resource Name of the resource
+   */
+  public MemoryConfig loadResource(String path, ClassLoader loader, String resource) throws IOException {
+    try (
+      InputStream is = loader.getResourceAsStream(resource)
+    ) {
+      if (is == null)
+        throw new IOException("Resource " + resource + " not found");
+
+      return load(path, new String(is.readAllBytes(), StandardCharsets.UTF_8));
+    }
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public Optional<ConfigValue> get(String path, String key) {
+    Tuple<Map<String, Object>, PathIndex> config = configs.get(path);
+
+    // Config unknown
+    if (config == null)
+      return Optional.empty();
+
+    Object val = resolve(config.getA(), key);
+
+    // Key unknown
+    if (val == null)
+      return Optional.empty();
+
+    // Is a list
+    if (val instanceof List<?>)
+      return Optional.of(new ConfigValue((List<Object>) val, evaluator, reader(path).orElse(null)));
+
+    // Is a scalar
+    return Optional.of(new ConfigValue(val, evaluator, reader(path).orElse(null)));
+  }
+
+  @Override
+  public boolean exists(String path, String key) {
+    Tuple<Map<String, Object>, PathIndex> config = configs.get(path);
+    return config != null && config.getB().contains(key);
+  }
+
+  @Override
+  public Optional<Object> resolve(String path, String key) {
+    Tuple<Map<String, Object>, PathIndex> config = configs.get(path);
+
+    // Config unknown
+    if (config == null)
+      return Optional.empty();
+
+    return Optional.ofNullable(resolve(config.getA(), key));
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public boolean set(String path, String key, @Nullable Object value) {
+    KeyPath keyPath = KeyPath.of(key);
+
+    if (keyPath.isIndexed())
+      throw new IllegalArgumentException("Cannot set values by indexed keys: " + key);
+
+    Map<String, Object> root;
+    Tuple<Map<String, Object>, PathIndex> previous;
+
+    synchronized (configs) {
+      Tuple<Map<String, Object>, PathIndex> config = configs.get(path);
+
+      // Config unknown
+      if (config == null)
+        return false;
+
+      // Apply the change on a copy, as published trees are never mutated
+      root = copyMap(config.getA());
+      Map<String, Object> curr = root;
+
+      // Walk all but the last level, creating or replacing maps along the way
+      for (int i = 0; i < keyPath.size() - 1; i++) {
+        Object next = curr.get(keyPath.getName(i));
+
+        if (!(next instanceof Map<?, ?>)) {
+          // Nothing to remove
+          if (value == null)
+            return true;
+
+          next = new LinkedHashMap<String, Object>();
+          curr.put(keyPath.getName(i), next);
+        }
+
+        curr = (Map<String, Object>) next;
+      }
+
+      String last = keyPath.getName(keyPath.size() - 1);
+
+      if (value == null)
+        curr.remove(last);
+      else
+        curr.put(last, copyValue(value));
+
+      previous = configs.put(path, new Tuple<>(root, PathIndex.build(root)));
+    }
+
+    // Refreshing calls out into listeners, which must not be done while holding the lock
+    refresh(path, previous, root);
+    return true;
+  }
+
+  /**
+   * In-memory configs are not backed by any file, thus there's nothing to save
+   */
+  @Override
+  public void save(String path) {}
+
+  @Override
+  public Optional<ConfigReader> reader(String path) {
+    // Config unknown
+    if (!configs.containsKey(path))
+      return Optional.empty();
+
+    return Optional.of(readers.computeIfAbsent(path, p -> new ConfigReader(this, p, logger, evaluator)));
+  }
+
+  //=========================================================================//
+  //                                Utilities                                //
+  //=========================================================================//
+
+  /**
+   * Publish a new tree for a config and refresh all values cached by it's reader
+   * @param path Path of the target config
+   * @param root Root node of the tree, which is not mutated afterwards
+   */
+  private void publish(String path, Map<String, Object> root) {
+    Tuple<Map<String, Object>, PathIndex> previous;
+
+    synchronized (configs) {
+      previous = configs.put(path, new Tuple<>(root, PathIndex.build(root)));
+    }
+
+    refresh(path, previous, root);
+  }
+
+  /**
+   * Refresh all values cached by the reader of a config after a new tree has been published,
+   * which notifies listeners and thus must be called without holding the lock on the configs
+   * @param path Path of the target config
+   * @param previous Previously published tree and index, null if there was none
+   * @param root Root node of the published tree
+   */
+  private void refresh(String path, @Nullable Tuple<Map<String, Object>, PathIndex> previous, Map<String, Object> root) {
+    // Only values of changed keys are re-mapped
+    ConfigReader reader = readers.get(path);
+    if (reader != null)
+      reader.refresh(previous == null ? Set.of("") : TreeDiff.diff(previous.getA(), root));
+  }
+
+  /**
+   * Resolve the raw value of a key within a tree
+   * @param root Root node of the tree
+   * @param key Key to resolve
+   * @return Raw value, null if the key is unknown or invalid
+   */
+  private @Nullable Object resolve(Map<String, Object> root, String key) {
+    // The empty key addresses the root itself
+    if (key.isEmpty())
+      return root;
+
+    return KeyPath.of(key).resolve(root);
+  }
+
+  /**
+   * Deeply copy a map, where all keys are stringified, like a yaml configuration would
+   * @param map Map to copy
+   * @return Copied map
+   */
+  private Map<String, Object> copyMap(Map<?, ?> map) {
+    Map<String, Object> res = new LinkedHashMap<>();
+
+    for (Map.Entry<?, ?> entry : map.entrySet()) {
+      // Null keys are not addressable
+      if (entry.getKey() == null)
+        continue;
+
+      res.put(entry.getKey().toString(), copyValue(entry.getValue()));
+    }
+
+    return res;
+  }
+
+  /**
+   * Deeply copy a value, where collections are copied and scalars are kept as is
+   * @param value Value to copy
+   * @return Copied value
+   */
+  private @Nullable Object copyValue(@Nullable Object value) {
+    if (value instanceof Map<?, ?>)
+      return copyMap((Map<?, ?>) value);
+
+    if (value instanceof List<?>) {
+      List<Object> res = new ArrayList<>();
+
+      for (Object item : (List<?>) value)
+        res.add(copyValue(item));
+
+      return res;
+    }
+
+    return value;
+  }
+}
@@ -0,0 +1,70 @@
+package me.blvckbytes.bblibconfig;
+
+import me.blvckbytes.bblibconfig.sections.ExpressionSection;
+import org.bukkit.configuration.ConfigurationSection;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Map;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  Lists all kinds of nodes a config tree consists of, which allows
+  to classify a resolved node once instead of probing it repeatedly.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public enum NodeKind {
+  // Node does not exist
+  MISSING,
+  // Single value, like a string or a number
+  SCALAR,
+  // Sequence of nodes
+  LIST,
+  // Named children, either a map or a configuration section
+  SECTION,
+  // Section which notates an expression by it's marker child
+  EXPRESSION,
+  ;
+
+  /**
+   * Classify a resolved node
+   * @param node Node to classify
+   * @return Kind of the node
+   */
+  public static NodeKind of(@Nullable Object node) {
+    if (node == null)
+      return MISSING;
+
+    if (node instanceof List<?>)
+      return LIST;
+
+    if (node instanceof Map<?, ?>)
+      return ((Map<?, ?>) node).get(ExpressionSection.MARKER) != null ? EXPRESSION : SECTION;
+
+    if (node instanceof ConfigurationSection)
+      return ((ConfigurationSection) node).get(ExpressionSection.MARKER) != null ? EXPRESSION : SECTION;
+
+    return SCALAR;
+  }
+
+  /**
+   * Check whether nodes of this kind have named children
+   */
+  public boolean hasChildren() {
+    return this == SECTION || this == EXPRESSION;
+  }
+}
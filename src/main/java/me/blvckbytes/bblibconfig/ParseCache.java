@@ -0,0 +1,278 @@
+package me.blvckbytes.bblibconfig;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  A bounded, thread-safe cache of parse results, keyed by the config key as well
+  as the type the value has been parsed into. When the bound is exceeded, the
+  keys which have been cached first are evicted first. Evicted results are no
+  longer patched in place on changes, so holders of evicted sections keep the
+  state of their time of parsing, while the next request parses them again.
+  Lookups never block, only changes of the cache are serialized.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class ParseCache {
+
+  // Maximum number of cached (key, type) entries
+  private final int maxEntries;
+
+  // Mapping keys to their results per parsed type, read without any locking
+  private final Map<String, Map<Class<?>, Object>> entries;
+
+  // All cached keys in the order of when they've been cached, only used to evict and
+  // invalidate keys, where it's monitor guards all changes of the entries and the generation
+  private final Set<String> order;
+
+  // Number of currently cached (key, type) entries
+  private volatile int size;
+
+  // Advanced whenever the underlying tree changed
+  private volatile long generation;
+
+  private final LongAdder hits, misses, evictions;
+
+  /**
+   * Create a new, empty cache
+   * @param maxEntries Maximum number of (key, type) entries to keep
+   */
+  public ParseCache(int maxEntries) {
+    if (maxEntries <= 0)
+      throw new IllegalArgumentException("The maximum number of entries has to be positive");
+
+    this.maxEntries = maxEntries;
+    this.entries = new ConcurrentHashMap<>();
+    this.order = new LinkedHashSet<>();
+    this.hits = new LongAdder();
+    this.misses = new LongAdder();
+    this.evictions = new LongAdder();
+  }
+
+  //=========================================================================//
+  //                                   API                                   //
+  //=========================================================================//
+
+  /**
+   * Get a cached result
+   * @param key Key the result has been parsed from
+   * @param type Type the result has been parsed into
+   * @return Cached result, null on a cache miss
+   */
+  public @Nullable Object get(String key, Class<?> type) {
+    Map<Class<?>, Object> bucket = entries.get(key);
+    Object res = bucket == null ? null : bucket.get(type);
+
+    if (res == null)
+      misses.increment();
+    else
+      hits.increment();
+
+    return res;
+  }
+
+  /**
+   * Cache a result, evicting the oldest keys if the bound is exceeded
+   * @param key Key the result has been parsed from
+   * @param type Type the result has been parsed into
+   * @param value Parsed result
+   */
+  public void put(String key, Class<?> type, Object value) {
+    synchronized (order) {
+      putLocked(key, type, value);
+    }
+  }
+
+  /**
+   * Cache a result which has been parsed while the cache was at a given generation,
+   * which is rejected if the cache advanced since, as the result may be outdated
+   * @param key Key the result has been parsed from
+   * @param type Type the result has been parsed into
+   * @param value Parsed result
+   * @param generation Generation of the cache before the key has been resolved
+   * @return True if the result has been cached, false if it has been rejected
+   */
+  public boolean put(String key, Class<?> type, Object value, long generation) {
+    synchronized (order) {
+      if (this.generation != generation)
+        return false;
+
+      putLocked(key, type, value);
+      return true;
+    }
+  }
+
+  /**
+   * Get the current generation of this cache, which has to be read before resolving
+   * a key to later cache it's result by {@link #put(String, Class, Object, long)}
+   */
+  public long getGeneration() {
+    return generation;
+  }
+
+  /**
+   * Advance the generation after the underlying tree changed, so that all results
+   * parsed from the previous tree which are not yet cached will be rejected, where
+   * results which have been cached before are visible to the caller afterwards
+   */
+  public void advance() {
+    synchronized (order) {
+      generation++;
+    }
+  }
+
+  /**
+   * Invalidate all cached results
+   */
+  public void invalidate() {
+    synchronized (order) {
+      generation++;
+      entries.clear();
+      order.clear();
+      size = 0;
+    }
+  }
+
+  /**
+   * Invalidate all cached results of a key and all of it's children
+   * @param prefix Key to invalidate, the empty key invalidates all results
+   */
+  public void invalidate(String prefix) {
+    if (prefix.isEmpty()) {
+      invalidate();
+      return;
+    }
+
+    synchronized (order) {
+      generation++;
+
+      Iterator<String> keys = order.iterator();
+      while (keys.hasNext()) {
+        String key = keys.next();
+
+        if (!KeyPath.isWithin(key, prefix))
+          continue;
+
+        size -= entries.remove(key).size();
+        keys.remove();
+      }
+    }
+  }
+
+  /**
+   * Get all currently cached keys
+   */
+  public Set<String> keys() {
+    return new HashSet<>(entries.keySet());
+  }
+
+  /**
+   * Get all cached results of a key
+   * @param key Key the results have been parsed from
+   * @return Mapping parsed types to their results
+   */
+  public Map<Class<?>, Object> getAll(String key) {
+    Map<Class<?>, Object> bucket = entries.get(key);
+    return bucket == null ? Map.of() : new HashMap<>(bucket);
+  }
+
+  /**
+   * Remove a single cached result
+   * @param key Key the result has been parsed from
+   * @param type Type the result has been parsed into
+   */
+  public void remove(String key, Class<?> type) {
+    synchronized (order) {
+      Map<Class<?>, Object> bucket = entries.get(key);
+
+      // Not cached
+      if (bucket == null || bucket.remove(type) == null)
+        return;
+
+      size--;
+
+      // Drop empty buckets, so that their keys leave the insertion order as well
+      if (bucket.isEmpty()) {
+        entries.remove(key);
+        order.remove(key);
+      }
+    }
+  }
+
+  /**
+   * Get the number of currently cached (key, type) entries
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Get the number of lookups which yielded a cached result
+   */
+  public long getHits() {
+    return hits.sum();
+  }
+
+  /**
+   * Get the number of lookups which yielded no cached result
+   */
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  /**
+   * Get the number of entries which have been evicted to meet the bound
+   */
+  public long getEvictions() {
+    return evictions.sum();
+  }
+
+  //=========================================================================//
+  //                                Utilities                                //
+  //=========================================================================//
+
+  /**
+   * Cache a result while holding the monitor of the order, evicting the oldest keys if the bound is exceeded
+   * @param key Key the result has been parsed from
+   * @param type Type the result has been parsed into
+   * @param value Parsed result
+   */
+  private void putLocked(String key, Class<?> type, Object value) {
+    Map<Class<?>, Object> bucket = entries.computeIfAbsent(key, k -> new ConcurrentHashMap<>());
+    order.add(key);
+
+    if (bucket.put(type, value) == null)
+      size++;
+
+    // Evict oldest keys until the bound is met again, while never evicting the result just cached
+    Iterator<String> oldest = order.iterator();
+    while (size > maxEntries && oldest.hasNext()) {
+      String evicted = oldest.next();
+
+      if (evicted.equals(key))
+        continue;
+
+      int count = entries.remove(evicted).size();
+      size -= count;
+      evictions.add(count);
+      oldest.remove();
+    }
+  }
+}
@@ -0,0 +1,77 @@
+package me.blvckbytes.bblibconfig;
+
+import com.google.common.primitives.Primitives;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  The results of parsing multiple keys at once, together with
+  the time it took to parse each of them.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class ParseResults {
+
+  // Mapping keys to their parsed values in request order, missing keys are not contained
+  private final Map<String, Object> values;
+
+  // Mapping keys to the time it took to parse them in nanoseconds
+  private final Map<String, Long> timings;
+
+  /**
+   * Create a new result bundle
+   * @param values Mapping keys to their parsed values
+   * @param timings Mapping keys to the time it took to parse them in nanoseconds
+   */
+  public ParseResults(Map<String, Object> values, Map<String, Long> timings) {
+    this.values = Collections.unmodifiableMap(values);
+    this.timings = Collections.unmodifiableMap(timings);
+  }
+
+  /**
+   * Get the parsed value of a key
+   * @param key Key which has been requested
+   * @param type Type the key has been requested as
+   * @return Parsed value, empty if the key was missing or is of another type
+   */
+  public<T> Optional<T> get(String key, Class<T> type) {
+    Object value = values.get(key);
+    Class<T> wType = Primitives.wrap(type);
+
+    if (!wType.isInstance(value))
+      return Optional.empty();
+
+    return Optional.of(wType.cast(value));
+  }
+
+  /**
+   * Check whether a key has been parsed successfully
+   * @param key Key which has been requested
+   */
+  public boolean contains(String key) {
+    return values.containsKey(key);
+  }
+
+  /**
+   * Get the time it took to parse each key in nanoseconds, in request order
+   */
+  public Map<String, Long> getTimings() {
+    return timings;
+  }
+}
@@ -0,0 +1,178 @@
+package me.blvckbytes.bblibconfig;
+
+import org.bukkit.configuration.MemorySection;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  A flattened index of all addressable keys within a config tree, including
+  list indices, which allows to check for the existence of a key without
+  having to walk the tree or wrap it's value.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class PathIndex {
+
+  private final Set<String> paths;
+
+  private PathIndex(Set<String> paths) {
+    this.paths = paths;
+  }
+
+  //=========================================================================//
+  //                                   API                                   //
+  //=========================================================================//
+
+  /**
+   * Build the index of all keys which are reachable from the provided root
+   * @param root Root of the config tree
+   * @return Index of the tree
+   */
+  public static PathIndex build(Object root) {
+    Set<String> paths = new HashSet<>();
+
+    // The empty key always addresses the root itself
+    paths.add("");
+    collect(root, "", paths);
+
+    return new PathIndex(paths);
+  }
+
+  /**
+   * Create a copy of this index, where a key as well as all of it's children are
+   * collected anew, which is required after the value of that key has been replaced
+   * @param key Key whose value has been replaced, the empty key means the root
+   * @param node New value of the key, null if it's been removed
+   * @return Updated index
+   */
+  public PathIndex with(String key, @Nullable Object node) {
+    Set<String> res = new HashSet<>();
+
+    for (String path : paths) {
+      if (!KeyPath.isWithin(path, key))
+        res.add(path);
+    }
+
+    // The empty key always addresses the root itself
+    if (key.isEmpty()) {
+      res.add("");
+      collect(node, "", res);
+    }
+    else
+      collectChild(node, key, res);
+
+    return new PathIndex(res);
+  }
+
+  /**
+   * Check whether a key exists within the indexed tree, where index
+   * notations are parsed just like when resolving the key
+   * @param key Key to check
+   */
+  public boolean contains(String key) {
+    KeyPath path = KeyPath.of(key);
+
+    // Plain keys are indexed exactly as they're written
+    if (!path.isIndexed())
+      return paths.contains(key);
+
+    // Indices are indexed without leading zeros
+    String canonical = path.toCanonical();
+    return canonical != null && paths.contains(canonical);
+  }
+
+  /**
+   * Get the number of indexed keys
+   */
+  public int size() {
+    return paths.size();
+  }
+
+  //=========================================================================//
+  //                                Utilities                                //
+  //=========================================================================//
+
+  /**
+   * Collect all keys below a node recursively
+   * @param node Node to collect the keys of
+   * @param prefix Key of the node itself
+   * @param paths Set of keys to collect into
+   */
+  private static void collect(Object node, String prefix, Set<String> paths) {
+    // Memory sections are usually encountered at top level scope
+    if (node instanceof MemorySection) {
+      MemorySection ms = (MemorySection) node;
+
+      for (String key : ms.getKeys(false))
+        collectChild(ms.get(key), join(prefix, key), paths);
+
+      return;
+    }
+
+    // Maps are usually encountered within lists
+    if (node instanceof Map<?, ?>) {
+      for (Map.Entry<?, ?> entry : ((Map<?, ?>) node).entrySet()) {
+        Object key = entry.getKey();
+
+        // Only string keys without separators are addressable
+        if (!(key instanceof String) || ((String) key).indexOf('.') >= 0)
+          continue;
+
+        collectChild(entry.getValue(), join(prefix, (String) key), paths);
+      }
+
+      return;
+    }
+
+    // Lists may only be indexed directly after a named level
+    if (node instanceof List<?> && !prefix.endsWith("]")) {
+      List<?> items = (List<?>) node;
+
+      for (int i = 0; i < items.size(); i++)
+        collectChild(items.get(i), prefix + "[" + i + "]", paths);
+    }
+  }
+
+  /**
+   * Collect a child node as well as all of it's children, if it's present
+   * @param child Child node to collect
+   * @param key Key of the child node
+   * @param paths Set of keys to collect into
+   */
+  private static void collectChild(Object child, String key, Set<String> paths) {
+    // Null values are treated as missing
+    if (child == null)
+      return;
+
+    paths.add(key);
+    collect(child, key, paths);
+  }
+
+  /**
+   * Join two keys with a separating dot
+   * @param prefix Prefix key, may be empty
+   * @param key Key to append
+   * @return Joined key
+   */
+  private static String join(String prefix, String key) {
+    return prefix.isEmpty() ? key : prefix + "." + key;
+  }
+}
@@ -0,0 +1,64 @@
+package me.blvckbytes.bblibconfig;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  The outcome of re-mapping all cached parse results which are affected by a change,
+  computed ahead of time, so that applying it only requires patching in place.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class PreparedRefresh {
+
+  // Keys which changed, the empty key means the whole file changed
+  private final Set<String> changed;
+
+  // Mapping keys to their types and freshly mapped values, where null means not patchable
+  private final Map<String, Map<Class<?>, Object>> values;
+
+  /**
+   * Create a new prepared refresh
+   * @param changed Keys which changed
+   * @param values Mapping keys to their types and freshly mapped values
+   */
+  public PreparedRefresh(Set<String> changed, Map<String, Map<Class<?>, Object>> values) {
+    this.changed = Collections.unmodifiableSet(changed);
+    this.values = values;
+  }
+
+  /**
+   * Get the keys which changed, the empty key means the whole file changed
+   */
+  public Set<String> getChanged() {
+    return changed;
+  }
+
+  /**
+   * Get the freshly mapped value of a key
+   * @param key Key of the value
+   * @param type Type the value has been mapped as
+   * @return Freshly mapped value, null if not prepared or not patchable
+   */
+  public @Nullable Object getValue(String key, Class<?> type) {
+    Map<Class<?>, Object> types = values.get(key);
+    return types == null ? null : types.get(type);
+  }
+}
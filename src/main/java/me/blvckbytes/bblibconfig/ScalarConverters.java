@@ -0,0 +1,229 @@
+package me.blvckbytes.bblibconfig;
+
+import com.cryptomorin.xseries.XEnchantment;
+import com.cryptomorin.xseries.XMaterial;
+import com.cryptomorin.xseries.XPotion;
+import com.google.common.primitives.Primitives;
+import org.bukkit.Color;
+import org.bukkit.enchantments.Enchantment;
+import org.bukkit.potion.PotionEffectType;
+import org.bukkit.potion.PotionType;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  Resolves the scalar converter of a target type once and caches it, so that
+  converting a value only requires a single call without any reflection. Types
+  are matched in the order in which ConfigValue used to check them on each cast.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class ScalarConverters {
+
+  // Mapping wrapped target types to their converters, which reference the types of plugins
+  private static final Map<Class<?>, IScalarConverter> converters = new ConcurrentHashMap<>();
+
+  private ScalarConverters() {}
+
+  //=========================================================================//
+  //                                   API                                   //
+  //=========================================================================//
+
+  /**
+   * Get the converter of a target type
+   * @param type Target type, primitives are wrapped
+   * @return Converter of the target type
+   */
+  public static IScalarConverter of(Class<?> type) {
+    return converters.computeIfAbsent(Primitives.wrap(type), ScalarConverters::resolve);
+  }
+
+  /**
+   * Drop all resolved converters, so that no types of a disabled plugin are kept alive
+   */
+  public static void clearCache() {
+    converters.clear();
+  }
+
+  //=========================================================================//
+  //                                Utilities                                //
+  //=========================================================================//
+
+  /**
+   * Resolve the converter of a target type
+   * @param wType Wrapped target type
+   * @return Converter of the target type
+   */
+  private static IScalarConverter resolve(Class<?> wType) {
+    // Requested an abstract material definition
+    if (wType == XMaterial.class)
+      return memoize(XMaterial::matchXMaterial);
+
+    // Since enchantments are just constants, map here
+    if (wType == Enchantment.class)
+      return memoize(str -> XEnchantment.matchXEnchantment(str).map(XEnchantment::getEnchant));
+
+    // Since potion types are just constants, map here
+    if (wType == PotionType.class) {
+      return memoize(str -> (
+        // Try to get the abstracted type
+        XPotion.matchXPotion(str).map(XPotion::getPotionType)
+          // Otherwise, try to parse directly
+          // Useful for types like AWKWARD, MUNDANE, ...
+          .or(() -> {
+            try {
+              return Optional.of(PotionType.valueOf(str));
+            } catch (IllegalArgumentException ignored) {
+              return Optional.empty();
+            }
+          })
+      ));
+    }
+
+    // Since potion effect types are just constants, map here
+    if (wType == PotionEffectType.class)
+      return memoize(str -> XPotion.matchXPotion(str).map(XPotion::getPotionEffectType));
+
+    // String value as scalar
+    if (wType == String.class)
+      return (value, str) -> Optional.of(str);
+
+    // Automatic color parsing with RGB-notation support
+    if (wType == Color.class) {
+      IScalarConverter constants = constantsOf(wType);
+
+      return (value, str) -> {
+        // Try to parse an enum name
+        Optional<?> enumValue = constants.convert(value, str);
+        if (enumValue.isPresent())
+          return enumValue;
+
+        // Assume it's an RGB color
+        String[] parts = str.split(" ");
+
+        // Malformed
+        if (parts.length != 3)
+          return Optional.empty();
+
+        // Parse RGB parts
+        return Optional.of(Color.fromRGB(
+          Integer.parseInt(parts[0]),
+          Integer.parseInt(parts[1]),
+          Integer.parseInt(parts[2])
+        ));
+      };
+    }
+
+    // Automatic enum parsing, where enums in Bukkit are often made up of static self-typed constants
+    if (wType.isEnum() || hasStaticSelfConstants(wType))
+      return constantsOf(wType);
+
+    // Parse integers
+    if (wType == Integer.class || wType == Long.class)
+      return (value, str) -> Optional.of(wType.cast(Integer.parseInt(str)));
+
+    // Parse floating points
+    if (wType == Float.class || wType == Double.class)
+      return (value, str) -> Optional.of(wType.cast(Float.parseFloat(str)));
+
+    // Parse booleans
+    if (wType == Boolean.class) {
+      return (value, str) -> Optional.of(
+        str.equalsIgnoreCase("true") | str.equalsIgnoreCase("yes") | str.equalsIgnoreCase("1")
+      );
+    }
+
+    return (value, str) -> Optional.of(wType.cast(value));
+  }
+
+  /**
+   * Check whether a class has any static constants of it's own type
+   * @param c Target class
+   */
+  private static boolean hasStaticSelfConstants(Class<?> c) {
+    for (Field field : c.getDeclaredFields()) {
+      if (field.getType().equals(c) && Modifier.isStatic(field.getModifiers()))
+        return true;
+    }
+
+    return false;
+  }
+
+  /**
+   * Create a converter which parses either true enum constants or static
+   * self-typed constant declarations within the specified class
+   * @param c Target class
+   * @return Converter which yields empty results if there was no such constant
+   */
+  private static IScalarConverter constantsOf(Class<?> c) {
+    // Mapping case-folded names to their constants, where the first declaration wins
+    Map<String, Object> index = new HashMap<>();
+
+    // Parse enums
+    if (c.isEnum()) {
+      for (Object ec : c.getEnumConstants())
+        index.putIfAbsent(fold(((Enum<?>) ec).name()), ec);
+    }
+
+    // Parse classes with static constants
+    else {
+      for (Field field : c.getDeclaredFields()) {
+        if (!field.getType().equals(c) || !Modifier.isStatic(field.getModifiers()))
+          continue;
+
+        try {
+          Object constant = field.get(null);
+
+          if (constant != null)
+            index.putIfAbsent(fold(field.getName()), constant);
+        }
+
+        // Not accessible (private or within a non-exported module), which is not an error,
+        // as all static fields are indexed up front, not only those which are looked up
+        catch (Exception ignored) {}
+      }
+    }
+
+    return (value, str) -> Optional.ofNullable(index.get(fold(str.trim())));
+  }
+
+  /**
+   * Fold the case of a constant's name, so that names can be matched case-insensitively
+   * @param name Name to fold
+   * @return Folded name
+   */
+  private static String fold(String name) {
+    return name.toUpperCase(Locale.ROOT).toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * Create a converter which caches the results of a matcher for repeated strings
+   * @param matcher Matcher of strings, which has to be free of side effects
+   * @return Converter which matches every distinct string only once
+   */
+  private static IScalarConverter memoize(Function<String, Optional<?>> matcher) {
+    BoundedCache<String, Optional<?>> matches = new BoundedCache<>(1024);
+    return (value, str) -> matches.computeIfAbsent(str, matcher);
+  }
+}
@@ -0,0 +1,105 @@
+package me.blvckbytes.bblibconfig;
+
+import me.blvckbytes.bblibconfig.expressions.IExpressionDataProvider;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  Provides the data of a config value while rendering it within a variable
+  scope, where the scope overrides the value's own variables. Neither the
+  value nor the scope are copied.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class ScopedDataProvider extends AbstractMap<String, String> implements IExpressionDataProvider {
+
+  private final ConfigValue value;
+  private final VariableScope scope;
+
+  /**
+   * Create a new provider of a value within a scope
+   * @param value Value to provide the data of
+   * @param scope Scope which overrides the value's own variables
+   */
+  public ScopedDataProvider(ConfigValue value, VariableScope scope) {
+    this.value = value;
+    this.scope = scope;
+  }
+
+  //=========================================================================//
+  //                         IExpressionDataProvider                         //
+  //=========================================================================//
+
+  @Override
+  public @Nullable ILutResolver getLutResolver() {
+    return value.getLutResolver();
+  }
+
+  @Override
+  public Map<String, String> getVariables() {
+    return this;
+  }
+
+  @Override
+  public @Nullable Object getVariableValue(String name) {
+    if (scope.containsKey(name))
+      return scope.getValue(name);
+
+    return value.getVariableValue(name);
+  }
+
+  @Override
+  public boolean areColorsEnabled() {
+    return value.areColorsEnabled();
+  }
+
+  //=========================================================================//
+  //                                   Map                                   //
+  //=========================================================================//
+
+  @Override
+  public @Nullable String get(Object key) {
+    String res = scope.get(key);
+    return res == null ? value.getVariables().get(key) : res;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return scope.containsKey(key) || value.getVariables().containsKey(key);
+  }
+
+  /**
+   * Copy all visible variables into a map, where the scope overrides the
+   * value's own variables, without stringifying them
+   * @param target Map to copy into
+   */
+  void copyInto(VariableMap target) {
+    target.putAll(value.getVariables());
+    target.putAll(scope);
+  }
+
+  /**
+   * Get a snapshot of all visible entries, which stringifies all values
+   */
+  @Override
+  public Set<Entry<String, String>> entrySet() {
+    Map<String, String> res = new HashMap<>(value.getVariables());
+    res.putAll(scope);
+    return Collections.unmodifiableMap(res).entrySet();
+  }
+}
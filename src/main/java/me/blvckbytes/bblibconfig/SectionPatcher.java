@@ -0,0 +1,166 @@
+package me.blvckbytes.bblibconfig;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  Patches a previously mapped section in place with the values of a freshly
+  mapped section of the same key, where only fields which are affected by a
+  set of changed keys are replaced. Unaffected fields keep their instances,
+  and affected sections, arrays and lists of sections are patched recursively,
+  so that references held onto by the outside stay valid.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class SectionPatcher {
+
+  //=========================================================================//
+  //                                   API                                   //
+  //=========================================================================//
+
+  /**
+   * Check whether a value can be patched in place by another value
+   * @param target Previously mapped value
+   * @param fresh Freshly mapped value
+   */
+  public static boolean isPatchable(@Nullable Object target, @Nullable Object fresh) {
+    if (target == null || fresh == null || target.getClass() != fresh.getClass())
+      return false;
+
+    if (target instanceof AConfigSection)
+      return true;
+
+    if (target.getClass().isArray())
+      return Array.getLength(target) == Array.getLength(fresh) && !target.getClass().getComponentType().isPrimitive();
+
+    if (target instanceof List<?>)
+      return ((List<?>) target).size() == ((List<?>) fresh).size();
+
+    return false;
+  }
+
+  /**
+   * Patch a previously mapped section in place
+   * @param target Previously mapped section
+   * @param fresh Freshly mapped section of the same class
+   * @param key Key both sections have been mapped from
+   * @param changed Set of changed keys
+   */
+  public static void patch(AConfigSection target, AConfigSection fresh, String key, Set<String> changed) throws Exception {
+    MappingPlan plan = MappingPlan.of(target.getClass());
+    Set<Field> bound = new HashSet<>();
+
+    for (FieldBinding binding : plan.getBindings()) {
+      bound.add(binding.getField());
+
+      String fKey = binding.isInlined() ? key : (key.isEmpty() ? binding.getName() : key + "." + binding.getName());
+
+      // Unchanged, keep the current instance
+      if (!isAffected(fKey, changed))
+        continue;
+
+      Field field = binding.getField();
+      Object current = field.get(target), value = field.get(fresh);
+
+      if (isPatchable(current, value)) {
+        patchValue(current, value, fKey, changed);
+        continue;
+      }
+
+      binding.set(target, value);
+    }
+
+    // Ignored fields may hold state derived by afterParsing, take them over as well
+    for (Field field : plan.getFields()) {
+      if (bound.contains(field) || Modifier.isStatic(field.getModifiers()) || Modifier.isFinal(field.getModifiers()))
+        continue;
+
+      field.setAccessible(true);
+      field.set(target, field.get(fresh));
+    }
+  }
+
+  //=========================================================================//
+  //                                Utilities                                //
+  //=========================================================================//
+
+  /**
+   * Patch a patchable value in place, which is either a section, an array or a list
+   * @param target Previously mapped value
+   * @param fresh Freshly mapped value
+   * @param key Key both values have been mapped from
+   * @param changed Set of changed keys
+   */
+  @SuppressWarnings("unchecked")
+  private static void patchValue(Object target, Object fresh, String key, Set<String> changed) throws Exception {
+    if (target instanceof AConfigSection) {
+      patch((AConfigSection) target, (AConfigSection) fresh, key, changed);
+      return;
+    }
+
+    if (target.getClass().isArray()) {
+      for (int i = 0; i < Array.getLength(target); i++) {
+        Object current = Array.get(target, i), value = Array.get(fresh, i);
+
+        if (!isAffected(key + "[" + i + "]", changed))
+          continue;
+
+        if (current instanceof AConfigSection && isPatchable(current, value))
+          patch((AConfigSection) current, (AConfigSection) value, key + "[" + i + "]", changed);
+        else
+          Array.set(target, i, value);
+      }
+      return;
+    }
+
+    List<Object> items = (List<Object>) target;
+    List<?> freshItems = (List<?>) fresh;
+
+    for (int i = 0; i < items.size(); i++) {
+      Object current = items.get(i), value = freshItems.get(i);
+
+      if (!isAffected(key + "[" + i + "]", changed))
+        continue;
+
+      if (current instanceof AConfigSection && isPatchable(current, value))
+        patch((AConfigSection) current, (AConfigSection) value, key + "[" + i + "]", changed);
+      else
+        items.set(i, value);
+    }
+  }
+
+  /**
+   * Check whether a key is affected by any of the changed keys, which is the
+   * case if it's either a changed key itself, a parent or a child of one
+   * @param key Key to check
+   * @param changed Set of changed keys
+   */
+  public static boolean isAffected(String key, Set<String> changed) {
+    for (String change : changed) {
+      if (KeyPath.isWithin(change, key) || KeyPath.isWithin(key, change))
+        return true;
+    }
+
+    return false;
+  }
+}
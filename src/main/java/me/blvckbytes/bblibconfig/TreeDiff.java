@@ -0,0 +1,111 @@
+package me.blvckbytes.bblibconfig;
+
+import org.bukkit.configuration.ConfigurationSection;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  Computes the keys at which two config trees differ, where only the
+  topmost differing key of each changed subtree is reported.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class TreeDiff {
+
+  //=========================================================================//
+  //                                   API                                   //
+  //=========================================================================//
+
+  /**
+   * Compute the keys at which two trees differ
+   * @param before Root of the previous tree
+   * @param after Root of the current tree
+   * @return Set of changed keys, where the empty key means the root has been replaced
+   */
+  public static Set<String> diff(@Nullable Object before, @Nullable Object after) {
+    Set<String> changed = new LinkedHashSet<>();
+    diff(before, after, "", changed);
+    return changed;
+  }
+
+  //=========================================================================//
+  //                                Utilities                                //
+  //=========================================================================//
+
+  /**
+   * Compare two nodes and collect the keys of all differing descendants
+   * @param before Previous node
+   * @param after Current node
+   * @param key Key of both nodes
+   * @param changed Set of changed keys to collect into
+   */
+  private static void diff(@Nullable Object before, @Nullable Object after, String key, Set<String> changed) {
+    Map<String, Object> childrenBefore = children(before), childrenAfter = children(after);
+
+    // Both have named children, compare child by child
+    if (childrenBefore != null && childrenAfter != null) {
+      Set<String> names = new LinkedHashSet<>(childrenBefore.keySet());
+      names.addAll(childrenAfter.keySet());
+
+      for (String name : names)
+        diff(childrenBefore.get(name), childrenAfter.get(name), key.isEmpty() ? name : key + "." + name, changed);
+
+      return;
+    }
+
+    // Both are lists of the same size, which may be indexed directly after a named level
+    if (
+      before instanceof List<?> && after instanceof List<?> &&
+      ((List<?>) before).size() == ((List<?>) after).size() &&
+      !key.isEmpty() && !key.endsWith("]")
+    ) {
+      List<?> itemsBefore = (List<?>) before, itemsAfter = (List<?>) after;
+
+      for (int i = 0; i < itemsBefore.size(); i++)
+        diff(itemsBefore.get(i), itemsAfter.get(i), key + "[" + i + "]", changed);
+
+      return;
+    }
+
+    // Both are scalars or of different shape, compare as a whole
+    if (!Objects.equals(before, after))
+      changed.add(key);
+  }
+
+  /**
+   * Get the named children of a node
+   * @param node Node to get the children of
+   * @return Mapping names to children, null if the node can't have named children
+   */
+  private static @Nullable Map<String, Object> children(@Nullable Object node) {
+    if (node instanceof ConfigurationSection)
+      return ((ConfigurationSection) node).getValues(false);
+
+    if (node instanceof Map<?, ?>) {
+      Map<String, Object> res = new LinkedHashMap<>();
+
+      // Non-string keys are not addressable by keys, but still differ by their string form
+      for (Map.Entry<?, ?> entry : ((Map<?, ?>) node).entrySet())
+        res.put(String.valueOf(entry.getKey()), entry.getValue());
+
+      return res;
+    }
+
+    return null;
+  }
+}
@@ -0,0 +1,143 @@
+package me.blvckbytes.bblibconfig;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  A map of variables which keeps their values as is and only stringifies
+  values when they're looked up by name. Copying or joining maps carries
+  over the values without stringifying them.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class VariableMap extends AbstractMap<String, String> {
+
+  private final Map<String, VariableValue> values;
+
+  /**
+   * Create a new, empty map
+   */
+  public VariableMap() {
+    this.values = new HashMap<>();
+  }
+
+  /**
+   * Create a copy of another map
+   * @param other Map to copy
+   */
+  public VariableMap(VariableMap other) {
+    this.values = new HashMap<>(other.values);
+  }
+
+  //=========================================================================//
+  //                                   API                                   //
+  //=========================================================================//
+
+  /**
+   * Set the value of a variable
+   * @param name Name of the variable
+   * @param value Value of the variable
+   */
+  public void putValue(String name, VariableValue value) {
+    values.put(name, value);
+  }
+
+  /**
+   * Get the typed value of a variable
+   * @param name Name of the variable
+   * @return Typed value, null if the variable is unknown or null
+   */
+  public @Nullable Object getValue(String name) {
+    VariableValue value = values.get(name);
+    return value == null ? null : value.getValue();
+  }
+
+  @Override
+  public @Nullable String get(Object key) {
+    VariableValue value = values.get(key);
+    return value == null ? null : value.format();
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return values.containsKey(key);
+  }
+
+  @Override
+  public @Nullable String put(String key, String value) {
+    VariableValue previous = values.put(key, VariableValue.of(value, null));
+    return previous == null ? null : previous.format();
+  }
+
+  @Override
+  public void putAll(Map<? extends String, ? extends String> m) {
+    // Carry over values as they are
+    if (m instanceof VariableMap) {
+      values.putAll(((VariableMap) m).values);
+      return;
+    }
+
+    // Carry over the values of all layers, instead of stringifying a snapshot
+    if (m instanceof VariableScope) {
+      ((VariableScope) m).copyInto(this);
+      return;
+    }
+
+    // Carry over the values of the provided value and it's scope
+    if (m instanceof ScopedDataProvider) {
+      ((ScopedDataProvider) m).copyInto(this);
+      return;
+    }
+
+    super.putAll(m);
+  }
+
+  @Override
+  public @Nullable String remove(Object key) {
+    VariableValue previous = values.remove(key);
+    return previous == null ? null : previous.format();
+  }
+
+  @Override
+  public void clear() {
+    values.clear();
+  }
+
+  @Override
+  public int size() {
+    return values.size();
+  }
+
+  @Override
+  public Set<String> keySet() {
+    return Collections.unmodifiableSet(values.keySet());
+  }
+
+  /**
+   * Get a snapshot of all entries, which stringifies all values
+   */
+  @Override
+  public Set<Entry<String, String>> entrySet() {
+    Map<String, String> res = new HashMap<>();
+
+    for (Map.Entry<String, VariableValue> entry : values.entrySet())
+      res.put(entry.getKey(), entry.getValue().format());
+
+    return Collections.unmodifiableMap(res).entrySet();
+  }
+}
@@ -0,0 +1,156 @@
+package me.blvckbytes.bblibconfig;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  An immutable chain of variable layers, where variables are looked up
+  from the top-most layer downwards, so that upper layers override lower
+  ones. Layers are referenced rather than copied, thus maps which make up
+  a layer must not be modified while the scope is in use.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class VariableScope extends AbstractMap<String, String> {
+
+  // Scope without any variables
+  public static final VariableScope EMPTY = new VariableScope(Map.of(), null);
+
+  // Variables of this layer
+  private final Map<String, String> layer;
+
+  // Layer below this layer, null if this is the bottom layer
+  private final @Nullable VariableScope parent;
+
+  private VariableScope(Map<String, String> layer, @Nullable VariableScope parent) {
+    this.layer = layer;
+    this.parent = parent;
+  }
+
+  //=========================================================================//
+  //                                   API                                   //
+  //=========================================================================//
+
+  /**
+   * Create a new scope from a single layer
+   * @param variables Variables of the layer, scopes are returned as they are
+   * @return Scope containing the variables
+   */
+  public static VariableScope of(@Nullable Map<String, String> variables) {
+    if (variables instanceof VariableScope)
+      return (VariableScope) variables;
+
+    if (variables == null || variables.isEmpty())
+      return EMPTY;
+
+    return new VariableScope(variables, null);
+  }
+
+  /**
+   * Create a new scope by adding a layer on top of this scope
+   * @param variables Variables of the new layer, which override those of this scope
+   * @return New scope, this scope if there are no variables to add
+   */
+  public VariableScope with(@Nullable Map<String, String> variables) {
+    if (variables == null || variables.isEmpty())
+      return this;
+
+    if (this == EMPTY)
+      return of(variables);
+
+    return new VariableScope(variables, this);
+  }
+
+  /**
+   * Get the typed value of a variable, without stringifying it
+   * @param name Name of the variable
+   * @return Typed value, null if the variable is unknown
+   */
+  public @Nullable Object getValue(String name) {
+    for (VariableScope scope = this; scope != null; scope = scope.parent) {
+      if (!scope.layer.containsKey(name))
+        continue;
+
+      if (scope.layer instanceof VariableMap)
+        return ((VariableMap) scope.layer).getValue(name);
+
+      return scope.layer.get(name);
+    }
+
+    return null;
+  }
+
+  @Override
+  public @Nullable String get(Object key) {
+    for (VariableScope scope = this; scope != null; scope = scope.parent) {
+      String value = scope.layer.get(key);
+
+      if (value != null)
+        return value;
+    }
+
+    return null;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    for (VariableScope scope = this; scope != null; scope = scope.parent) {
+      if (scope.layer.containsKey(key))
+        return true;
+    }
+
+    return false;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    for (VariableScope scope = this; scope != null; scope = scope.parent) {
+      if (!scope.layer.isEmpty())
+        return false;
+    }
+
+    return true;
+  }
+
+  /**
+   * Copy all visible variables into a map, where values of variable maps are
+   * carried over as they are, without stringifying them
+   * @param target Map to copy into
+   */
+  void copyInto(VariableMap target) {
+    // Apply from the bottom upwards, so that upper layers override
+    if (parent != null)
+      parent.copyInto(target);
+
+    target.putAll(layer);
+  }
+
+  /**
+   * Get a snapshot of all visible entries, which stringifies all values
+   */
+  @Override
+  public Set<Entry<String, String>> entrySet() {
+    // Apply from the bottom upwards, so that upper layers override
+    Map<String, String> res = new HashMap<>();
+    if (parent != null)
+      res.putAll(parent);
+
+    res.putAll(layer);
+    return Collections.unmodifiableMap(res).entrySet();
+  }
+}
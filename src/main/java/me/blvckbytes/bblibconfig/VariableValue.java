@@ -0,0 +1,172 @@
+package me.blvckbytes.bblibconfig;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.text.DateFormat;
+import java.text.DecimalFormat;
+import java.text.NumberFormat;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  The value of a variable, which is kept as is and only stringified once
+  it's actually referenced. Values may also be supplied lazily, where the
+  supplier is called exactly once on first access, even if it's shared
+  between threads. String representations are memoized without locking,
+  as formatting the same value more than once is harmless.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class VariableValue {
+
+  // Decimal format used when encountering double variables, per thread as formats are not thread-safe
+  private static final ThreadLocal<DecimalFormat> DECIMAL_FORMAT = ThreadLocal.withInitial(() -> {
+    DecimalFormat format = (DecimalFormat) NumberFormat.getInstance(Locale.US);
+    format.applyPattern("0.00");
+    return format;
+  });
+
+  // Date format used when serializing dates from/to strings, per thread as formats are not thread-safe
+  private static final ThreadLocal<DateFormat> SERIALIZATION_FORMAT = ThreadLocal.withInitial(
+    () -> new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS")
+  );
+
+  // Supplier of the value, null for immediate values
+  private final @Nullable Supplier<?> supplier;
+
+  // Immediate value, only valid if there's no supplier
+  private final @Nullable Object immediate;
+
+  // Suffix to append to the string representation
+  private final @Nullable String suffix;
+
+  // Whether the supplier has been called, publishes the supplied value
+  private volatile boolean resolved;
+
+  // Supplied value, only valid once resolved
+  private @Nullable Object supplied;
+
+  // Memoized string representation
+  private volatile @Nullable String formatted;
+
+  private VariableValue(@Nullable Supplier<?> supplier, @Nullable Object immediate, @Nullable String suffix) {
+    this.supplier = supplier;
+    this.immediate = immediate;
+    this.suffix = suffix;
+  }
+
+  //=========================================================================//
+  //                                   API                                   //
+  //=========================================================================//
+
+  /**
+   * Create a new variable value from an immediate value
+   * @param value Value of the variable
+   * @param suffix Suffix to append to the string representation, optional
+   */
+  public static VariableValue of(@Nullable Object value, @Nullable String suffix) {
+    return new VariableValue(null, value, suffix);
+  }
+
+  /**
+   * Create a new variable value which is supplied on first access
+   * @param supplier Supplier of the value
+   * @param suffix Suffix to append to the string representation, optional
+   */
+  public static VariableValue lazy(Supplier<?> supplier, @Nullable String suffix) {
+    return new VariableValue(supplier, null, suffix);
+  }
+
+  /**
+   * Get the typed value of this variable, where values with a suffix
+   * are only available as their string representation
+   * @return Typed value, null if the value is null
+   */
+  public @Nullable Object getValue() {
+    if (suffix != null)
+      return resolve() == null ? null : format();
+
+    return resolve();
+  }
+
+  /**
+   * Get the string representation of this variable
+   */
+  public String format() {
+    String res = formatted;
+
+    if (res == null) {
+      Object val = resolve();
+      res = val == null ? "null" : (stringify(val) + (suffix == null ? "" : suffix));
+      formatted = res;
+    }
+
+    return res;
+  }
+
+  /**
+   * Turn a variable's value into it's string representation
+   * @param value Value to stringify
+   */
+  public static String stringify(Object value) {
+    // Doubles should always have two decimal digits
+    if (value instanceof Double) {
+      Double d = (Double) value;
+      return d == 0 ? "0" : DECIMAL_FORMAT.get().format(d);
+    }
+
+    // Floats should always have two decimal digits
+    if (value instanceof Float) {
+      Float f = (Float) value;
+      return f == 0 ? "0" : DECIMAL_FORMAT.get().format(f);
+    }
+
+    // Serialize dates
+    if (value instanceof Date)
+      return SERIALIZATION_FORMAT.get().format((Date) value);
+
+    return value.toString();
+  }
+
+  //=========================================================================//
+  //                                Utilities                                //
+  //=========================================================================//
+
+  /**
+   * Resolve the value by calling the supplier, if not yet done
+   * @return Resolved value
+   */
+  private @Nullable Object resolve() {
+    if (supplier == null)
+      return immediate;
+
+    // Already resolved, the volatile read makes the supplied value visible
+    if (resolved)
+      return supplied;
+
+    synchronized (this) {
+      if (!resolved) {
+        supplied = supplier.get();
+        resolved = true;
+      }
+
+      return supplied;
+    }
+  }
+}
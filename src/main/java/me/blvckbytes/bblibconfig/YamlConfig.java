@@ -7,17 +7,25 @@ import me.blvckbytes.bblibdi.AutoInjectLate;
 import me.blvckbytes.bblibdi.IAutoConstructed;
 import me.blvckbytes.bblibutil.Tuple;
 import me.blvckbytes.bblibutil.logger.ILogger;
-import org.bukkit.configuration.MemorySection;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.plugin.java.JavaPlugin;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.*;
 import java.net.URL;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /*
   Author: BlvckBytes <blvckbytes@gmail.com>
@@ -41,23 +49,53 @@ import java.util.jar.JarFile;
 @AutoConstruct
 public class YamlConfig implements IConfig, IAutoConstructed {
 
-  // Mapping config paths to a tuple of the in-memory config and it's underlying file
-  private final Map<String, Tuple<YamlConfiguration, File>> configs;
-  private final Map<String, ConfigReader> readers;
+  // Folder within the data folder which holds all cache files
+  private static final String CACHE_FOLDER = ".cache";
+
+  // File within the cache folder which keeps track of copied default files
+  private static final String DEFAULTS_INDEX = "defaults.properties";
+
+  // Time to wait for further changes before a requested save is performed
+  private static final long SAVE_DELAY_MS = 500;
+
+  // Immutable snapshots mapping config paths to their loaded handles and readers,
+  // which are replaced as a whole on changes, so that reading never requires locking
+  private volatile Map<String, ConfigHandle> configs;
+  private volatile Map<String, ConfigReader> readers;
+
+  // Serializes all changes to the snapshots, never acquired when reading
+  private final Object writeLock;
   private final IExpressionEvaluator evaluator;
   private final JavaPlugin plugin;
+  private final BinaryConfigCache cache;
+
+  // Single background writer which performs all saves
+  private final ConfigWriter writer;
+
+  // Serializes writing files, so that the latest state is always written last
+  private final Object saveLock;
+
+  // Paths of files which are materialized on demand instead of being parsed as a whole
+  private final Set<String> lazyPaths;
 
   @AutoInjectLate
   private ILogger logger;
 
+  private @Nullable ConfigWatcher watcher;
+
   public YamlConfig(
     @AutoInject JavaPlugin plugin,
     @AutoInject IExpressionEvaluator evaluator
   ) {
-    this.configs = new HashMap<>();
-    this.readers = new HashMap<>();
+    this.configs = Map.of();
+    this.readers = Map.of();
+    this.writeLock = new Object();
+    this.saveLock = new Object();
+    this.lazyPaths = ConcurrentHashMap.newKeySet();
+    this.writer = new ConfigWriter(SAVE_DELAY_MS, this::write);
     this.evaluator = evaluator;
     this.plugin = plugin;
+    this.cache = new BinaryConfigCache(new File(plugin.getDataFolder(), CACHE_FOLDER));
 
     // Copy default config files from the resource folder
     this.copyDefaults(new String[] {}, new String[] {"config"});
@@ -72,7 +110,7 @@ public class YamlConfig implements IConfig, IAutoConstructed {
 
   @Override
   public Optional<ConfigValue> get(String path, String key) {
-    Tuple<YamlConfiguration, File> handle = load(path).orElse(null);
+    ConfigHandle handle = load(path).orElse(null);
 
     if (handle == null)
       return Optional.empty();
@@ -82,119 +120,277 @@ public class YamlConfig implements IConfig, IAutoConstructed {
 
   @Override
   public boolean exists(String path, String key) {
-    // FIXME: Loading values just to check if they're present is wasteful
-    return get(path, key).isPresent();
+    ConfigHandle handle = load(path).orElse(null);
+
+    if (handle == null)
+      return false;
+
+    PathIndex index = handle.getIndex();
+
+    // Lazily loaded files are not indexed, as that would require materializing them
+    if (index == null)
+      return resolve(handle, key) != null;
+
+    return index.contains(key);
   }
 
   @Override
-  public Optional<ConfigReader> reader(String path) {
-    Tuple<YamlConfiguration, File> handle = load(path).orElse(null);
+  public Optional<Object> resolve(String path, String key) {
+    return load(path).map(handle -> resolve(handle, key));
+  }
 
-    if (handle == null)
-      return Optional.empty();
+  @Override
+  public boolean set(String path, String key, @Nullable Object value) {
+    if (KeyPath.of(key).isIndexed())
+      throw new IllegalArgumentException("Cannot set values by indexed keys: " + key);
 
-    // Cache readers to be re-used
-    if (readers.containsKey(path))
-      return Optional.of(readers.get(path));
+    synchronized (writeLock) {
+      ConfigHandle handle = load(path).orElse(null);
+
+      if (handle == null)
+        return false;
+
+      // Apply the change on a copy, as published configs are never mutated, where
+      // only the sections along the key's path are copied and all others are shared
+      YamlConfiguration previous = handle.getConfig();
+      YamlConfiguration cfg = copyPath(previous, key);
+      cfg.set(key, value);
+
+      PathIndex index = handle.getIndex();
+
+      // Lazily loaded files are not indexed yet, but have been materialized by copying
+      if (index == null)
+        index = PathIndex.build(cfg);
+
+      // Only keys below the outermost replaced value may have changed
+      else {
+        String scope = changedScope(previous, key);
+        index = index.with(scope, scope.isEmpty() ? cfg : cfg.get(scope));
+      }
+
+      publish(Map.of(path, new ConfigHandle(cfg, handle.getFile(), index, handle.getHash())), true);
+    }
+
+    // Only the set key and it's children changed
+    ConfigReader reader = readers.get(path);
+    if (reader != null)
+      reader.refresh(Set.of(key));
 
-    ConfigReader reader = new ConfigReader(this, path, logger, evaluator);
-    readers.put(path, reader);
-    return Optional.of(reader);
+    return true;
   }
 
   @Override
-  public void cleanup() {
-    // Nothing to do here (yet)
+  public void save(String path) {
+    writer.request(path);
+  }
+
+  /**
+   * Immediately write all files with pending saves on the calling thread
+   */
+  public void flush() {
+    writer.flush();
   }
 
   @Override
-  public void initialize() {
-    // Nothing to do here (yet)
+  public Optional<ConfigReader> reader(String path) {
+    ConfigHandle handle = load(path).orElse(null);
+
+    if (handle == null)
+      return Optional.empty();
+
+    // Cache readers to be re-used
+    ConfigReader reader = readers.get(path);
+    if (reader != null)
+      return Optional.of(reader);
+
+    synchronized (writeLock) {
+      // Created by another thread in the meantime
+      reader = readers.get(path);
+      if (reader != null)
+        return Optional.of(reader);
+
+      reader = new ConfigReader(this, path, logger, evaluator);
+      readers = copyWith(readers, Map.of(path, reader), true);
+      return Optional.of(reader);
+    }
   }
 
-  //=========================================================================//
-  //                               Utilities                                 //
-  //=========================================================================//
+  /**
+   * Mark config files to be loaded lazily, where each key of the first level which has
+   * more than a single key is only parsed once it's first accessed. This pays off for very large files of which only few
+   * keys are ever requested. Files which cannot be split up safely, for example due
+   * to anchors, are still parsed as a whole. Syntax errors within a key only surface
+   * when it's accessed, in which case the key is treated as missing. Setting a value
+   * within such a file materializes all of it's keys and turns it into a regularly
+   * loaded file until it's reloaded. Has to be called before the files are first accessed.
+   * @param paths Paths of the target config files (no leading slash, no .yml)
+   */
+  public void lazyLoad(String... paths) {
+    lazyPaths.addAll(Arrays.asList(paths));
+  }
 
-  @SuppressWarnings("unchecked")
-  private Optional<ConfigValue> retrieveIndexed(String path, Tuple<YamlConfiguration, File> handle, String key) {
-    // Object of the currently iterated level within the loop
-    Object obj = null;
-
-    // Iterate all key levels
-    String[] levels = key.split("\\.");
-    for (int j = 0; j < levels.length; j++) {
-      String level = levels[j];
-      Integer i = null;
-
-      // Indexed level, splice off the index notation and parse the requested level
-      if (level.matches("(.*)\\[\\d+\\]$")) {
-        // Get the requested index and splice off the index notation
-        String index = level.substring(level.indexOf('[') + 1, level.indexOf(']'));
-        level = level.substring(0, level.indexOf('['));
+  /**
+   * Load multiple config files in parallel, which allows to pay the parsing cost
+   * up-front instead of on whichever thread first accesses a file. All files are
+   * only made available after each of them has been parsed.
+   * @param paths Paths of the target config files (no leading slash, no .yml)
+   * @return Mapping of paths to the time it took to parse them in milliseconds,
+   * where files which were already loaded or failed to load are not listed
+   */
+  public Map<String, Long> preload(String... paths) {
+    Map<String, Long> timings = new LinkedHashMap<>();
 
-        try {
-          i = Integer.parseInt(index);
-        }
+    List<String> pending = Arrays.stream(paths)
+      .distinct()
+      .filter(path -> !configs.containsKey(path))
+      .collect(Collectors.toList());
 
-        // Invalid index provided
-        catch (NumberFormatException e) {
-          return Optional.empty();
-        }
-      }
+    // Nothing to load
+    if (pending.isEmpty())
+      return timings;
 
-      // Get the initial value
-      if (j == 0)
-        obj = handle.getA().get(level);
+    int threads = Math.min(pending.size(), Runtime.getRuntime().availableProcessors());
+    ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+      Thread thread = new Thread(runnable, "YamlConfig-Preload");
+      thread.setDaemon(true);
+      return thread;
+    });
 
-      // Get the next level from the map
-      else {
-        // Maps are usually encountered when indexing into memory sections
-        if (obj instanceof Map<?, ?>)
-          obj = ((Map<?, ?>) obj).get(level);
+    try {
+      Map<String, Future<Tuple<ConfigHandle, Long>>> tasks = new LinkedHashMap<>();
+
+      for (String path : pending) {
+        tasks.put(path, executor.submit(() -> {
+          long start = System.nanoTime();
+          ConfigHandle handle = parse(path, false).orElse(null);
+          return new Tuple<>(handle, (System.nanoTime() - start) / 1000 / 1000);
+        }));
+      }
 
-        // Memory sections are usually encountered at top level scope
-        else if (obj instanceof MemorySection)
-          obj = ((MemorySection) obj).get(level);
+      Map<String, ConfigHandle> handles = new HashMap<>();
+      for (Map.Entry<String, Future<Tuple<ConfigHandle, Long>>> task : tasks.entrySet()) {
+        Tuple<ConfigHandle, Long> result = task.getValue().get();
 
-        // Unknown data-structure, cannot get the key
-        else
-          return Optional.empty();
+        // Failed to load
+        if (result.getA() == null)
+          continue;
+
+        handles.put(task.getKey(), result.getA());
+        timings.put(task.getKey(), result.getB());
       }
 
-      // Get the target index value from the current list
-      if (i != null) {
-        // Can only index when the result is a list
-        if (!(obj instanceof List<?>))
-          return Optional.empty();
+      // Publish all files at once, files loaded in the meantime take precedence
+      publish(handles, false);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ExecutionException e) {
+      if (logger == null)
+        e.printStackTrace();
+      else
+        logger.logError(e);
+    } finally {
+      executor.shutdown();
+    }
 
-        List<?> l = (List<?>) obj;
+    return timings;
+  }
 
-        // Out of range
-        if (i < 0 || i >= l.size())
-          return Optional.empty();
+  /**
+   * Load all config files which exist within the data folder in parallel
+   * @see #preload(String...)
+   */
+  public Map<String, Long> preloadAll() {
+    Path df = plugin.getDataFolder().toPath();
 
-        // Retrieve the target list item
-        obj = l.get(i);
-      }
+    // No files available yet
+    if (!Files.isDirectory(df))
+      return new LinkedHashMap<>();
 
-      // Cannot resolve further
-      if (obj == null)
-        return Optional.empty();
+    try (
+      Stream<Path> files = Files.walk(df)
+    ) {
+      return preload(
+        files
+          .filter(Files::isRegularFile)
+          .map(file -> df.relativize(file).toString().replace(File.separatorChar, '/'))
+          .filter(file -> file.endsWith(".yml"))
+          .map(file -> file.substring(0, file.length() - 4))
+          .toArray(String[]::new)
+      );
+    } catch (IOException e) {
+      if (logger == null)
+        e.printStackTrace();
+      else
+        logger.logError(e);
     }
 
-    // Didn't yield anything
-    if (obj == null)
-      return Optional.empty();
+    return new LinkedHashMap<>();
+  }
+
+  /**
+   * Re-read a config file from disk and swap it in place of the currently loaded
+   * version. Cached values of the file's reader are invalidated. The file is kept
+   * as is if it's unreadable or contains malformed yaml.
+   * @param path Path of the target config file (no leading slash, no .yml)
+   * @return True if the file has been reloaded, false otherwise
+   */
+  public boolean reload(String path) {
+    Optional<ConfigHandle> handle = parse(path, true);
+    handle.ifPresent(h -> swap(Map.of(path, h)));
+    return handle.isPresent();
+  }
+
+  /**
+   * Start watching the data folder for changes and reload all loaded files which
+   * changed on disk. Files are parsed, diffed and re-mapped off-thread, where only
+   * publishing them and patching cached sections happens on the main thread.
+   */
+  public void startWatching() {
+    // Already watching
+    if (watcher != null)
+      return;
+
+    try {
+      watcher = new ConfigWatcher(plugin.getDataFolder().toPath(), this::reloadChanged, logger);
+      watcher.start();
+    } catch (IOException e) {
+      if (logger == null)
+        e.printStackTrace();
+      else
+        logger.logError(e);
+    }
+  }
+
+  /**
+   * Stop watching the data folder for changes
+   */
+  public void stopWatching() {
+    if (watcher == null)
+      return;
 
-    // Is a list, pass as a list
-    if (obj instanceof List<?>)
-      return Optional.of(new ConfigValue((List<Object>) obj, evaluator, reader(path).orElse(null)));
+    watcher.stop();
+    watcher = null;
+  }
+
+  @Override
+  public void cleanup() {
+    stopWatching();
+    writer.shutdown();
 
-    // Pass as an unknown blob
-    return Optional.of(new ConfigValue(obj, evaluator, reader(path).orElse(null)));
+    // Resolved converters reference the types of the plugin, which is about to be unloaded
+    ScalarConverters.clearCache();
+    ConfigReader.clearKeyConverters();
   }
 
+  @Override
+  public void initialize() {
+    // Nothing to do here (yet)
+  }
+
+  //=========================================================================//
+  //                               Utilities                                 //
+  //=========================================================================//
+
   /**
    * Retrieve a config value from a given handle by it's key
    * @param handle Config handle
@@ -202,17 +398,14 @@ public class YamlConfig implements IConfig, IAutoConstructed {
    * @return Optional value, empty if the handle was null or the key is invalid
    */
   @SuppressWarnings("unchecked")
-  private Optional<ConfigValue> retrieve(String path, Tuple<YamlConfiguration, File> handle, String key) {
+  private Optional<ConfigValue> retrieve(String path, ConfigHandle handle, String key) {
     // Config failed to load
     if (handle == null)
       return Optional.empty();
 
-    // Caller wants to index at least once, the path needs to be walked manually
-    if (key.matches("(.*)\\[\\d+\\](.*)"))
-      return retrieveIndexed(path, handle, key);
+    Object val = resolve(handle, key);
 
     // Key unknown
-    Object val = handle.getA().get(key);
     if (val == null)
       return Optional.empty();
 
@@ -227,16 +420,198 @@ public class YamlConfig implements IConfig, IAutoConstructed {
   }
 
   /**
-   * Load the config from the corresponding file
+   * Resolve the raw value of a key within a given handle
+   * @param handle Config handle
+   * @param key Key to resolve
+   * @return Raw value, null if the key is unknown or invalid
+   */
+  private @Nullable Object resolve(ConfigHandle handle, String key) {
+    KeyPath keyPath = KeyPath.of(key);
+
+    // Caller wants to index at least once, the path needs to be walked manually
+    if (keyPath.isIndexed())
+      return keyPath.resolve(handle.getConfig());
+
+    return handle.getConfig().get(key);
+  }
+
+  /**
+   * Reload all loaded files out of a set of changed files, where parsing, diffing
+   * and re-mapping cached sections happens on the calling thread and the results
+   * are swapped in on the main thread, once they've all been prepared
+   * @param paths Paths of the changed files
+   */
+  private void reloadChanged(Set<String> paths) {
+    Map<String, ConfigHandle> previous = configs;
+    Map<String, ConfigHandle> handles = new HashMap<>();
+
+    for (String path : paths) {
+      ConfigHandle current = previous.get(path);
+
+      // Not loaded yet, will be read from disk on first access anyways
+      if (current == null)
+        continue;
+
+      parse(path, true)
+        // Skip files which have only been touched but not changed
+        .filter(h -> !Arrays.equals(h.getHash(), current.getHash()))
+        .ifPresent(h -> handles.put(path, h));
+    }
+
+    // No changes to apply
+    if (handles.isEmpty())
+      return;
+
+    Map<String, PreparedRefresh> refreshes = prepare(previous, handles);
+    plugin.getServer().getScheduler().runTask(plugin, () -> commit(previous, handles, refreshes));
+  }
+
+  /**
+   * Swap loaded files by new handles and refresh all values which have been cached
+   * by the readers of these files, where only changed keys are re-mapped
+   * @param handles Mapping of paths to their new handles
+   */
+  private void swap(Map<String, ConfigHandle> handles) {
+    Map<String, ConfigHandle> previous = configs;
+    commit(previous, handles, prepare(previous, handles));
+  }
+
+  /**
+   * Compute the changes between loaded files and their new handles and re-map all cached
+   * sections of their readers which are affected, without publishing anything yet
+   * @param previous Snapshot of loaded handles to compute the changes against
+   * @param handles Mapping of paths to their new handles
+   * @return Mapping of paths to the prepared refreshes of their readers
+   */
+  private Map<String, PreparedRefresh> prepare(Map<String, ConfigHandle> previous, Map<String, ConfigHandle> handles) {
+    Map<String, PreparedRefresh> refreshes = new HashMap<>();
+
+    for (Map.Entry<String, ConfigHandle> entry : handles.entrySet()) {
+      ConfigReader reader = readers.get(entry.getKey());
+
+      if (reader != null)
+        refreshes.put(entry.getKey(), prepare(reader, previous.get(entry.getKey()), entry.getValue()));
+    }
+
+    return refreshes;
+  }
+
+  /**
+   * Compute the changes between two handles of a file and prepare the refresh of it's reader
+   * @param reader Reader of the file
+   * @param before Previous handle, null if there was none
+   * @param after New handle
+   * @return Prepared refresh of the reader
+   */
+  private PreparedRefresh prepare(ConfigReader reader, @Nullable ConfigHandle before, ConfigHandle after) {
+    Set<String> changed = (
+      // Diffing lazily loaded files would materialize them, consider them as changed as a whole
+      before == null || before.getIndex() == null || after.getIndex() == null ?
+        Set.of("") :
+        TreeDiff.diff(before.getConfig(), after.getConfig())
+    );
+
+    return reader.prepareRefresh(changed, resolve(after, ""));
+  }
+
+  /**
+   * Publish new handles and apply the prepared refreshes on their readers. Refreshes
+   * which have been prepared against an outdated state or which are missing are
+   * prepared again, as the file may have been changed in the meantime.
+   * @param previous Snapshot of loaded handles the refreshes have been prepared against
+   * @param handles Mapping of paths to their new handles
+   * @param refreshes Mapping of paths to the prepared refreshes of their readers
+   */
+  private void commit(Map<String, ConfigHandle> previous, Map<String, ConfigHandle> handles, Map<String, PreparedRefresh> refreshes) {
+    Map<String, ConfigHandle> current;
+
+    synchronized (writeLock) {
+      current = configs;
+      publish(handles, true);
+    }
+
+    for (Map.Entry<String, ConfigHandle> entry : handles.entrySet()) {
+      ConfigReader reader = readers.get(entry.getKey());
+
+      if (reader == null)
+        continue;
+
+      ConfigHandle before = current.get(entry.getKey());
+      PreparedRefresh refresh = refreshes.get(entry.getKey());
+
+      // Changed or read for the first time in the meantime, prepare against the latest state
+      if (refresh == null || !isSameTree(before, previous.get(entry.getKey())))
+        refresh = prepare(reader, before, entry.getValue());
+
+      reader.applyRefresh(refresh);
+    }
+  }
+
+  /**
+   * Check whether two handles hold the same tree, which is the case after saving
+   * @param a Handle A, nullable
+   * @param b Handle B, nullable
+   */
+  private boolean isSameTree(@Nullable ConfigHandle a, @Nullable ConfigHandle b) {
+    if (a == null || b == null)
+      return a == b;
+
+    return a.getConfig() == b.getConfig();
+  }
+
+  /**
+   * Load the config from the corresponding file, if it's not yet loaded
    * @param path Path to the file
    */
-  private Optional<Tuple<YamlConfiguration, File>> load(String path) {
-    Tuple<YamlConfiguration, File> handle = configs.get(path);
+  private Optional<ConfigHandle> load(String path) {
+    ConfigHandle handle = configs.get(path);
 
     // Config already loaded
     if (handle != null)
       return Optional.of(handle);
 
+    // Files loaded concurrently by another thread in the meantime take precedence
+    return parse(path, false).map(h -> publish(Map.of(path, h), false).get(path));
+  }
+
+  /**
+   * Publish a new snapshot of loaded handles, which contains the provided changes
+   * @param handles Mapping of paths to their handles
+   * @param overwrite Whether to overwrite already loaded handles
+   * @return The published snapshot
+   */
+  private Map<String, ConfigHandle> publish(Map<String, ConfigHandle> handles, boolean overwrite) {
+    synchronized (writeLock) {
+      configs = copyWith(configs, handles, overwrite);
+      return configs;
+    }
+  }
+
+  /**
+   * Create an immutable copy of a map which contains the provided changes
+   * @param map Map to copy
+   * @param changes Changes to apply on the copy
+   * @param overwrite Whether to overwrite existing keys
+   * @return Immutable copy
+   */
+  private <K, V> Map<K, V> copyWith(Map<K, V> map, Map<K, V> changes, boolean overwrite) {
+    Map<K, V> res = new HashMap<>(map);
+
+    if (overwrite)
+      res.putAll(changes);
+    else
+      changes.forEach(res::putIfAbsent);
+
+    return Collections.unmodifiableMap(res);
+  }
+
+  /**
+   * Parse the config from the corresponding file without storing it
+   * @param path Path to the file
+   * @param strict Whether to fail on missing or malformed files
+   *               instead of creating the main config or yielding an empty config
+   */
+  private Optional<ConfigHandle> parse(String path, boolean strict) {
     try {
       File df = plugin.getDataFolder();
 
@@ -251,7 +626,7 @@ public class YamlConfig implements IConfig, IAutoConstructed {
       if (!yf.exists()) {
 
         // Create file if absent for the main config
-        if (path.equals("config")) {
+        if (path.equals("config") && !strict) {
           if (!yf.createNewFile())
             throw new RuntimeException("Could not create config file");
         }
@@ -261,12 +636,42 @@ public class YamlConfig implements IConfig, IAutoConstructed {
           return Optional.empty();
       }
 
-      // Load configuration from file
-      YamlConfiguration cfg = YamlConfiguration.loadConfiguration(yf);
-      handle = new Tuple<>(cfg, yf);
-      configs.put(path, handle);
+      byte[] content = Files.readAllBytes(yf.toPath());
+      byte[] hash = BinaryConfigCache.hash(content);
 
-      return Optional.of(handle);
+      // Only split into the spans of the split level, which are parsed on their first access
+      if (lazyPaths.contains(path)) {
+        LazyYamlConfiguration lazy = LazyYamlConfiguration.split(new String(content, StandardCharsets.UTF_8), logger);
+
+        if (lazy != null)
+          return Optional.of(new ConfigHandle(lazy, yf, null, hash));
+      }
+
+      // Try to skip parsing by using the cached tree of an unchanged file
+      YamlConfiguration cfg = cache.read(path, hash).orElse(null);
+
+      if (cfg == null) {
+        cfg = new YamlConfiguration();
+
+        try {
+          cfg.loadFromString(new String(content, StandardCharsets.UTF_8));
+          cache.write(path, hash, cfg);
+        } catch (InvalidConfigurationException e) {
+          // Fail on malformed yaml
+          if (strict)
+            throw e;
+
+          // Yield an empty config, just like YamlConfiguration#loadConfiguration would
+          if (logger == null)
+            e.printStackTrace();
+          else
+            logger.logError(e);
+
+          cfg = new YamlConfiguration();
+        }
+      }
+
+      return Optional.of(new ConfigHandle(cfg, yf, PathIndex.build(cfg), hash));
     } catch (Exception e) {
       if (logger == null)
         e.printStackTrace();
@@ -278,66 +683,200 @@ public class YamlConfig implements IConfig, IAutoConstructed {
   }
 
   /**
-   * Save the local yaml config into it's file
-   * @param handle Handle to the file
+   * Write the current in-memory state of a loaded config into it's file
+   * @param path Path of the config
    */
-  private void save(Tuple<YamlConfiguration, File> handle) {
-    // No config loaded yet
-    if (handle.getA() == null || handle.getB() == null)
-      return;
+  private void write(String path) {
+    synchronized (saveLock) {
+      ConfigHandle handle = configs.get(path);
 
-    try {
-      // Save config using the file handle
-      handle.getA().save(handle.getB());
-    } catch (Exception e) {
-      if (logger == null)
-        e.printStackTrace();
-      else
-        logger.logError(e);
+      // Not loaded, nothing to save
+      if (handle == null)
+        return;
+
+      try {
+        byte[] content = handle.getConfig().saveToString().getBytes(StandardCharsets.UTF_8);
+        ConfigWriter.writeAtomically(handle.getFile().toPath(), content);
+
+        byte[] hash = BinaryConfigCache.hash(content);
+        cache.write(path, hash, handle.getConfig());
+
+        // Update the hash if unchanged since, so the watcher skips this write
+        synchronized (writeLock) {
+          if (configs.get(path) == handle)
+            publish(Map.of(path, new ConfigHandle(handle.getConfig(), handle.getFile(), handle.getIndex(), hash)), true);
+        }
+      } catch (Exception e) {
+        if (logger == null)
+          e.printStackTrace();
+        else
+          logger.logError(e);
+      }
     }
   }
 
   /**
-   * Copies default .yml files from the resources folder if they are not yet exising
+   * Create a copy of a configuration in which a given key can be set without affecting
+   * the original. Only the sections along the key's path are copied, all other values
+   * are shared. Shared sections stay bound to the original's root, which is fine as
+   * published configurations are never mutated and thus only read from.
+   * @param cfg Configuration to copy
+   * @param key Key which is going to be set on the copy
+   * @return Copied configuration
+   */
+  private YamlConfiguration copyPath(YamlConfiguration cfg, String key) {
+    YamlConfiguration res = new YamlConfiguration();
+    res.options().header(cfg.options().header());
+
+    KeyPath keyPath = KeyPath.of(key);
+    ConfigurationSection from = cfg, to = res;
+
+    for (int i = 0; i < keyPath.size(); i++) {
+      String next = keyPath.getName(i);
+
+      // Share all children which are not on the key's path
+      for (String name : from.getKeys(false)) {
+        if (!name.equals(next))
+          to.set(name, from.get(name));
+      }
+
+      Object child = from.get(next);
+
+      // The last level or a non-section is replaced by setting the key as a whole
+      if (i == keyPath.size() - 1 || !(child instanceof ConfigurationSection)) {
+        if (child != null)
+          to.set(next, child);
+        break;
+      }
+
+      from = (ConfigurationSection) child;
+      to = to.createSection(next);
+    }
+
+    return res;
+  }
+
+  /**
+   * Get the outermost key whose value is replaced when setting a given key, which
+   * is the first level of it's path which is not a section yet, or the key itself
+   * @param cfg Configuration before setting the key
+   * @param key Key which is set
+   * @return Outermost replaced key
+   */
+  private String changedScope(YamlConfiguration cfg, String key) {
+    for (int end = key.indexOf('.'); end >= 0; end = key.indexOf('.', end + 1)) {
+      String prefix = key.substring(0, end);
+
+      if (!(cfg.get(prefix) instanceof ConfigurationSection))
+        return prefix;
+    }
+
+    return key;
+  }
+
+  /**
+   * Copies default .yml files from the resources folder if they are not yet existing.
+   * The jar is only enumerated once and entries are streamed into their files. The
+   * content hash of each default is recorded, so that files which are still equal to
+   * a previously copied default are replaced once the shipped default changes, while
+   * files which have been edited since are never touched.
    * @param folders Folders to copy from the resources-folder
    * @param files Top level files to copy from the resources-folder
    */
   private void copyDefaults(String[] folders, String[] files) {
     try {
+      File jar = locateJar();
 
-      List<Tuple<String, InputStream>> targets = new ArrayList<>();
-
-      // Add all top level files
-      Arrays.stream(files)
-        .map(file -> new Tuple<>(file + ".yml", plugin.getResource(file + ".yml")))
-        .forEach(targets::add);
+      // Not running from a jar, only top level files can be resolved
+      if (jar == null) {
+        for (String file : files)
+          copyDefault(file + ".yml");
+        return;
+      }
 
-      // Add all files within a folder
-      for (String folder : folders)
-        targets.addAll(getResourceFiles(folder));
+      File indexFile = new File(new File(plugin.getDataFolder(), CACHE_FOLDER), DEFAULTS_INDEX);
+      Properties index = new Properties();
 
-      for (Tuple<String, InputStream> file : targets) {
-        // Not a yaml configuration file
-        if (!file.getA().endsWith(".yml"))
-          continue;
+      if (indexFile.isFile()) {
+        try (
+          InputStream is = Files.newInputStream(indexFile.toPath())
+        ) {
+          index.load(is);
+        }
+      }
 
-        File f = new File(plugin.getDataFolder(), file.getA());
+      Properties newIndex = new Properties();
+
+      Set<String> topLevel = Arrays.stream(files)
+        .map(file -> file + ".yml")
+        .collect(Collectors.toSet());
+
+      try (
+        JarFile jf = new JarFile(jar)
+      ) {
+        Enumeration<JarEntry> entries = jf.entries();
+        while (entries.hasMoreElements()) {
+          JarEntry entry = entries.nextElement();
+          String name = entry.getName();
+
+          // Not a yaml configuration file
+          if (entry.isDirectory() || !name.endsWith(".yml"))
+            continue;
+
+          // Neither a requested top level file nor a child of a requested folder
+          if (!topLevel.contains(name) && Arrays.stream(folders).noneMatch(folder -> name.startsWith(folder + "/")))
+            continue;
+
+          String shipped;
+          try (
+            InputStream is = jf.getInputStream(entry)
+          ) {
+            shipped = toHex(BinaryConfigCache.hash(is));
+          }
+
+          String copied = index.getProperty(name);
+          newIndex.setProperty(name, shipped);
+
+          File f = new File(plugin.getDataFolder(), name);
+
+          if (f.exists()) {
+            // Unchanged default, or unknown what the file has been copied from
+            if (copied == null || copied.equals(shipped))
+              continue;
+
+            // The file has been edited since it's been copied
+            try (
+              InputStream is = Files.newInputStream(f.toPath())
+            ) {
+              if (!copied.equals(toHex(BinaryConfigCache.hash(is))))
+                continue;
+            }
+          }
+
+          // Create parent directories
+          else if (!f.getParentFile().exists() && !f.getParentFile().mkdirs())
+            continue;
+
+          // Stream the entry's contents into the file
+          try (
+            InputStream is = jf.getInputStream(entry)
+          ) {
+            Files.copy(is, f.toPath(), StandardCopyOption.REPLACE_EXISTING);
+          }
+        }
+      }
 
-        // This yaml has already been copied before
-        if (f.exists())
-          continue;
+      // Nothing has been copied or changed within the jar
+      if (newIndex.equals(index))
+        return;
 
-        // Create parent directories
-        if (f.getParentFile().exists() || f.getParentFile().mkdirs()) {
-          // Copy stream contents into the file
-          FileOutputStream fos = new FileOutputStream(f);
-          InputStream is = file.getB();
-          fos.write(is.readAllBytes());
-          is.close();
-          fos.close();
+      if (indexFile.getParentFile().exists() || indexFile.getParentFile().mkdirs()) {
+        try (
+          OutputStream os = Files.newOutputStream(indexFile.toPath())
+        ) {
+          newIndex.store(os, "Default files copied from the plugin jar");
         }
       }
-
     } catch (Exception e) {
       if (logger == null)
         e.printStackTrace();
@@ -350,7 +889,10 @@ public class YamlConfig implements IConfig, IAutoConstructed {
    * Gets all files of a folder within the jar's resources folder
    * @param directoryName Name of the target directory
    * @return List of tuple from file path to it's input stream containing the data
+   * @deprecated Opens a stream for each file which the caller has to close, default
+   * files are copied by streaming the jar's entries instead
    */
+  @Deprecated
   public List<Tuple<String, InputStream>> getResourceFiles(String directoryName) throws Exception {
     List<Tuple<String, InputStream>> streams = new ArrayList<>();
     URL url = getClass().getClassLoader().getResource(directoryName);
@@ -385,4 +927,55 @@ public class YamlConfig implements IConfig, IAutoConstructed {
 
     return streams;
   }
+
+  /**
+   * Copies a single default file from the resources folder if it's not yet existing
+   * @param name Name of the file within the resources folder
+   */
+  private void copyDefault(String name) throws IOException {
+    File f = new File(plugin.getDataFolder(), name);
+
+    // This yaml has already been copied before
+    if (f.exists())
+      return;
+
+    try (
+      InputStream is = plugin.getResource(name)
+    ) {
+      // Not shipped with the plugin
+      if (is == null)
+        return;
+
+      // Create parent directories
+      if (f.getParentFile().exists() || f.getParentFile().mkdirs())
+        Files.copy(is, f.toPath());
+    }
+  }
+
+  /**
+   * Encode a content hash as a hexadecimal string
+   * @param hash Hash to encode
+   * @return Hexadecimal representation, two characters per byte
+   */
+  private String toHex(byte[] hash) {
+    StringBuilder res = new StringBuilder(hash.length * 2);
+
+    for (byte b : hash)
+      res.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+
+    return res.toString();
+  }
+
+  /**
+   * Locate the jar file which contains the plugin's classes and resources
+   * @return Jar file, null if not running from a jar
+   */
+  private @Nullable File locateJar() {
+    try {
+      File location = new File(plugin.getClass().getProtectionDomain().getCodeSource().getLocation().toURI());
+      return location.isFile() ? location : null;
+    } catch (Exception e) {
+      return null;
+    }
+  }
 }
@@ -33,7 +33,7 @@ public abstract class AOperation {
 
   // 0.0, .0, 0
   private static final Pattern FLOAT_PATTERN = Pattern.compile("^\\d*\\.?\\d+$");
-  private static final DateFormat DATE_ISO = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSSZ");
+  private static final ThreadLocal<DateFormat> DATE_ISO = ThreadLocal.withInitial(() -> new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSSZ"));
 
   /**
    * Called whenever this operation is requested to be performed
@@ -50,6 +50,11 @@ public abstract class AOperation {
    * @return Flattened value
    */
   protected Object flattenValue(ConfigValue value) {
+    // Solely a variable, use it's typed value instead of parsing it's string representation
+    Object variable = value.asTypedVariable();
+    if (variable != null)
+      return variable;
+
     // Already a scalar value (no string, thus no variables to substitute)
     if (value.getItems().size() == 1 && !(value.getItems().get(0) instanceof String))
       return value.getItems().get(0);
@@ -108,7 +113,7 @@ public abstract class AOperation {
     // Try to parse the date from an ISO string
     if (input instanceof String) {
       try {
-        return Optional.of(DATE_ISO.parse((String) input));
+        return Optional.of(DATE_ISO.get().parse((String) input));
       } catch (Exception ignored) {}
     }
 
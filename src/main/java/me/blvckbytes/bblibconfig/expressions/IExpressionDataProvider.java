@@ -37,6 +37,15 @@ public interface IExpressionDataProvider {
    */
   Map<String, String> getVariables();
 
+  /**
+   * Get the typed value of a variable, without stringifying it
+   * @param name Name of the variable
+   * @return Typed value, null if the variable is unknown
+   */
+  default @Nullable Object getVariableValue(String name) {
+    return getVariables().get(name);
+  }
+
   /**
    * Get whether color notation should be substituted
    */
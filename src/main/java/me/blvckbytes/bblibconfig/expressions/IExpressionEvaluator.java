@@ -32,6 +32,18 @@ public interface IExpressionEvaluator {
    */
   String substituteVariables(String input, IExpressionDataProvider dataProvider);
 
+  /**
+   * Evaluate a string's result which may contain evaluateable expressions, where the
+   * string is built at runtime, like the result of an expression, and thus not kept
+   * around for later evaluations of the same string
+   * @param input Input string
+   * @param dataProvider Data provider which makes up the evaluation context
+   * @return Evaluated result
+   */
+  default String substituteVariablesOnce(String input, IExpressionDataProvider dataProvider) {
+    return substituteVariables(input, dataProvider);
+  }
+
   /**
    * Evaluate an expression section's result which may contain nested expressions
    * @param input Input expression
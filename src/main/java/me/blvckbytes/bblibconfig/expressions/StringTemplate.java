@@ -0,0 +1,149 @@
+package me.blvckbytes.bblibconfig.expressions;
+
+import org.bukkit.ChatColor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  A string which has been scanned for {{ }} markers once, split into literal
+  segments and the references in between them. Rendering only resolves the
+  references and concatenates, where unresolvable references keep their
+  raw text and resolved values take on the last color preceding them.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class StringTemplate {
+
+  // Either vanilla color code sequences, hex notations or gradient notations
+  private static final Pattern COLOR_NOTATION = Pattern.compile("&([\\da-zklmnor#]|<[#A-Za-z\\d :.]+>)");
+
+  // Literal segments, where segment i precedes reference i and the last segment trails
+  private final String[] literals;
+  private final TemplateReference[] references;
+
+  private StringTemplate(String[] literals, TemplateReference[] references) {
+    this.literals = literals;
+    this.references = references;
+  }
+
+  //=========================================================================//
+  //                                   API                                   //
+  //=========================================================================//
+
+  /**
+   * Compile a string into a template
+   * @param input String to compile, with colors already applied if desired
+   * @return Compiled template
+   */
+  public static StringTemplate compile(String input) {
+    List<String> literals = new ArrayList<>();
+    List<TemplateReference> references = new ArrayList<>();
+
+    StringBuilder sb = new StringBuilder();
+
+    int startIndInp = -1, startIndSb = -1;
+    for (int i = 0; i < input.length(); i++) {
+      char c = input.charAt(i);
+
+      sb.append(c);
+
+      if (i == input.length() - 1)
+        break;
+
+      char n = input.charAt(i + 1);
+
+      // Store the possible variable begin marker
+      if (c == '{' && n == '{') {
+        startIndInp = i;
+        startIndSb = sb.length() - 1;
+        continue;
+      }
+
+      // Close the current literal and add the reference
+      if (c == '}' && n == '}' && startIndInp >= 0) {
+        literals.add(sb.substring(0, startIndSb));
+        references.add(TemplateReference.compile(
+          input.substring(startIndInp, i + 2), input.substring(startIndInp + 2, i)
+        ));
+        sb.setLength(0);
+
+        // Skip the second closing bracket
+        i++;
+
+        startIndSb = startIndInp = -1;
+      }
+    }
+
+    literals.add(sb.toString());
+
+    return new StringTemplate(
+      literals.toArray(String[]::new),
+      references.toArray(TemplateReference[]::new)
+    );
+  }
+
+  /**
+   * Render this template by resolving all of it's references
+   * @param dataProvider Provider of variables and lookup tables
+   * @return Rendered string
+   */
+  public String render(IExpressionDataProvider dataProvider) {
+    // Nothing to substitute
+    if (references.length == 0)
+      return literals[0];
+
+    StringBuilder sb = new StringBuilder();
+
+    for (int i = 0; i < references.length; i++) {
+      sb.append(literals[i]);
+
+      TemplateReference reference = references[i];
+      String value = reference.resolve(dataProvider);
+
+      // Unresolvable, keep as is
+      if (value == null) {
+        sb.append(reference.getRaw());
+        continue;
+      }
+
+      // Apply affecting colors on all lines of the variable
+      String color = ChatColor.getLastColors(sb.toString());
+      String[] lines = value.split("\n");
+
+      sb.append(color);
+      for (int j = 0; j < lines.length; j++) {
+        if (j > 0)
+          sb.append('\n').append(color);
+        sb.append(lines[j]);
+      }
+    }
+
+    sb.append(literals[references.length]);
+    return sb.toString();
+  }
+
+  /**
+   * Translates color notations on the input string
+   * @param input String to translate in
+   * @return Translated string
+   */
+  public static String applyColors(String input) {
+    return COLOR_NOTATION.matcher(input).replaceAll("§$1");
+  }
+}
@@ -0,0 +1,149 @@
+package me.blvckbytes.bblibconfig.expressions;
+
+import me.blvckbytes.bblibconfig.ILutResolver;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  A precompiled reference within a string template, which is either a
+  constant (quoted or numeric), a lookup table access or a plain variable.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class TemplateReference {
+
+  private static final Pattern NUMERIC = Pattern.compile("\\d+");
+
+  // Text which is kept if the reference cannot be resolved
+  private final String raw;
+
+  // Constant value, null if not a constant
+  private final @Nullable String constant;
+
+  // Name of the variable, also used if no lookup table resolver is available
+  private final String variable;
+
+  // Name of the lookup table and reference to it's key, null if not a lookup
+  private final @Nullable String lutName;
+  private final @Nullable TemplateReference lutKey;
+
+  private TemplateReference(
+    String raw,
+    @Nullable String constant,
+    String variable,
+    @Nullable String lutName,
+    @Nullable TemplateReference lutKey
+  ) {
+    this.raw = raw;
+    this.constant = constant;
+    this.variable = variable;
+    this.lutName = lutName;
+    this.lutKey = lutKey;
+  }
+
+  //=========================================================================//
+  //                                   API                                   //
+  //=========================================================================//
+
+  /**
+   * Compile a reference expression
+   * @param raw Text to keep if the reference cannot be resolved
+   * @param expr Expression in between the markers
+   * @return Compiled reference
+   */
+  public static TemplateReference compile(String raw, String expr) {
+    expr = expr.trim();
+
+    // Immediate string value
+    if (
+      expr.length() >= 2 &&
+      ((expr.startsWith("\"") && expr.endsWith("\"")) || (expr.startsWith("'") && expr.endsWith("'")))
+    )
+      return new TemplateReference(raw, expr.substring(1, expr.length() - 1), expr, null, null);
+
+    // Just a numeric constant
+    if (NUMERIC.matcher(expr).matches())
+      return new TemplateReference(raw, expr, expr, null, null);
+
+    int indexS = expr.indexOf('['), indexE = expr.indexOf(']');
+
+    // Is a lookup table expression
+    if (indexS >= 0 && indexE > indexS) {
+      String keyExpr = expr.substring(indexS + 1, indexE);
+      return new TemplateReference(raw, null, expr, expr.substring(0, indexS), compile(keyExpr, keyExpr));
+    }
+
+    return new TemplateReference(raw, null, expr, null, null);
+  }
+
+  /**
+   * Get the text which is kept if the reference cannot be resolved
+   */
+  public String getRaw() {
+    return raw;
+  }
+
+  /**
+   * Resolve the value of this reference
+   * @param dataProvider Provider of variables and lookup tables
+   * @return Resolved value, null if unresolvable
+   */
+  public @Nullable String resolve(IExpressionDataProvider dataProvider) {
+    if (constant != null)
+      return constant;
+
+    ILutResolver lutResolver = dataProvider.getLutResolver();
+
+    // Is a lookup table expression
+    if (lutName != null && lutKey != null && lutResolver != null) {
+      String keyName = lutKey.resolve(dataProvider);
+
+      // Key unresolvable
+      if (keyName == null)
+        return null;
+
+      // LUT not found
+      Map<String, String> lut = lutResolver.getLut(lutName).orElse(null);
+      if (lut == null)
+        return null;
+
+      return colorize(lut.get(keyName), dataProvider);
+    }
+
+    // Just try to lookup as is
+    return colorize(dataProvider.getVariables().get(variable), dataProvider);
+  }
+
+  //=========================================================================//
+  //                                Utilities                                //
+  //=========================================================================//
+
+  /**
+   * Apply colors on a resolved value, if enabled
+   * @param value Resolved value, nullable
+   * @param dataProvider Provider which decides about colors
+   * @return Colorized value, null if the value was null
+   */
+  private @Nullable String colorize(@Nullable String value, IExpressionDataProvider dataProvider) {
+    if (value == null)
+      return null;
+
+    return dataProvider.areColorsEnabled() ? StringTemplate.applyColors(value) : value;
+  }
+}
@@ -14,9 +14,9 @@ import me.blvckbytes.bblibdi.AutoInject;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.Date;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /*
   Author: BlvckBytes <blvckbytes@gmail.com>
@@ -40,13 +40,14 @@ import java.util.Optional;
 @AutoConstruct
 public class DateFormatOperation extends AOperation {
 
-  private final Map<String, DateFormat> formats;
+  // Date formats are not thread-safe, thus each thread gets it's own instance
+  private final Map<String, ThreadLocal<DateFormat>> formats;
 
   public DateFormatOperation(
     @AutoInject IOperatorRegistry registry
   ) {
     registry.register(ExpressionOperation.DATE_FORMAT, this);
-    this.formats = new HashMap<>();
+    this.formats = new ConcurrentHashMap<>();
   }
 
   @Override
@@ -63,10 +64,11 @@ public class DateFormatOperation extends AOperation {
     if (date.isEmpty())
       return cvD;
 
-    // Create the date format once if not yet cached
-    if (!formats.containsKey(format))
-      formats.put(format, new SimpleDateFormat(format));
+    // Create the date format once per thread if not yet cached
+    DateFormat dateFormat = formats
+      .computeIfAbsent(format, f -> ThreadLocal.withInitial(() -> new SimpleDateFormat(f)))
+      .get();
 
-    return ConfigValue.immediate(formats.get(format).format(date.get()));
+    return ConfigValue.immediate(dateFormat.format(date.get()));
   }
 }
@@ -3,6 +3,7 @@ package me.blvckbytes.bblibconfig.sections;
 import lombok.Getter;
 import me.blvckbytes.bblibconfig.AConfigSection;
 import me.blvckbytes.bblibconfig.ConfigValue;
+import me.blvckbytes.bblibconfig.VariableScope;
 import org.bukkit.DyeColor;
 import org.bukkit.block.banner.Pattern;
 import org.bukkit.block.banner.PatternType;
@@ -40,22 +41,18 @@ public class ItemStackBannerPatternSection extends AConfigSection {
    * @param variables Variables to apply while evaluating values
    */
   public @Nullable Pattern asPattern(@Nullable Map<String, String> variables) {
+    VariableScope scope = VariableScope.of(variables);
+
     PatternType pattern = (
       this.pattern == null ?
         null :
-        this.pattern
-          .copy()
-          .withVariables(variables)
-          .asScalar(PatternType.class)
+        this.pattern.renderScalar(PatternType.class, scope)
     );
 
     DyeColor color = (
       this.color == null ?
         null :
-        this.color
-          .copy()
-          .withVariables(variables)
-          .asScalar(DyeColor.class)
+        this.color.renderScalar(DyeColor.class, scope)
     );
 
     // Cannot construct a pattern with missing data
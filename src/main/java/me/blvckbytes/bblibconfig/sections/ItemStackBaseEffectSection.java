@@ -3,6 +3,7 @@ package me.blvckbytes.bblibconfig.sections;
 import lombok.Getter;
 import me.blvckbytes.bblibconfig.AConfigSection;
 import me.blvckbytes.bblibconfig.ConfigValue;
+import me.blvckbytes.bblibconfig.VariableScope;
 import org.bukkit.potion.PotionData;
 import org.bukkit.potion.PotionType;
 import org.jetbrains.annotations.Nullable;
@@ -40,16 +41,15 @@ public class ItemStackBaseEffectSection extends AConfigSection {
    * @param variables Variables to apply while evaluating values
    */
   public PotionData asData(@Nullable Map<String, String> variables) {
+    VariableScope scope = VariableScope.of(variables);
+
     boolean _upgraded = upgraded != null && upgraded;
     boolean _extended = extended != null && extended;
 
     PotionType type = (
       this.type == null ?
         null :
-        this.type
-          .copy()
-          .withVariables(variables)
-          .asScalar(PotionType.class)
+        this.type.renderScalar(PotionType.class, scope)
     );
 
     // Potions cannot be both extended and upgraded at the same
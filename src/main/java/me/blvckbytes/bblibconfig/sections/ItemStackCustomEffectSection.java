@@ -3,6 +3,7 @@ package me.blvckbytes.bblibconfig.sections;
 import lombok.Getter;
 import me.blvckbytes.bblibconfig.AConfigSection;
 import me.blvckbytes.bblibconfig.ConfigValue;
+import me.blvckbytes.bblibconfig.VariableScope;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
 import org.jetbrains.annotations.Nullable;
@@ -44,14 +45,13 @@ public class ItemStackCustomEffectSection extends AConfigSection {
    * @param variables Variables to apply while evaluating values
    */
   public PotionEffect asEffect(@Nullable Map<String, String> variables) {
+    VariableScope scope = VariableScope.of(variables);
+
     // Cannot create an effect object without the effect itself
     PotionEffectType type = (
       this.effect == null ?
         null :
-        this.effect
-          .copy()
-          .withVariables(variables)
-          .asScalar(PotionEffectType.class)
+        this.effect.renderScalar(PotionEffectType.class, scope)
     );
 
     if (type == null || duration == null)
@@ -60,19 +60,13 @@ public class ItemStackCustomEffectSection extends AConfigSection {
     Integer amplifier = (
       this.amplifier == null ?
         0 :
-        this.amplifier
-          .copy()
-          .withVariables(variables)
-          .asScalar(Integer.class)
+        this.amplifier.renderScalar(Integer.class, scope)
     );
 
     Integer duration = (
       this.duration == null ?
         null :
-        this.duration
-          .copy()
-          .withVariables(variables)
-          .asScalar(Integer.class)
+        this.duration.renderScalar(Integer.class, scope)
     );
 
     return new PotionEffect(
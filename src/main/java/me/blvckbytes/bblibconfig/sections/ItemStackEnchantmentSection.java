@@ -3,6 +3,7 @@ package me.blvckbytes.bblibconfig.sections;
 import lombok.Getter;
 import me.blvckbytes.bblibconfig.AConfigSection;
 import me.blvckbytes.bblibconfig.ConfigValue;
+import me.blvckbytes.bblibconfig.VariableScope;
 import me.blvckbytes.bblibutil.Tuple;
 import org.bukkit.enchantments.Enchantment;
 import org.jetbrains.annotations.Nullable;
@@ -40,14 +41,13 @@ public class ItemStackEnchantmentSection extends AConfigSection {
    * @param variables Variables to apply while evaluating values
    */
   public @Nullable Tuple<Enchantment, Integer> asEnchantment(@Nullable Map<String, String> variables) {
+    VariableScope scope = VariableScope.of(variables);
+
     // Try to parse the enchantment, if provided
     Enchantment ench = (
       enchantment == null ?
         null :
-        enchantment
-          .copy()
-          .withVariables(variables)
-          .asScalar(Enchantment.class)
+        enchantment.renderScalar(Enchantment.class, scope)
     );
 
     // No enchantment provided
@@ -57,10 +57,7 @@ public class ItemStackEnchantmentSection extends AConfigSection {
     Integer lvl = (
       level == null ?
         null :
-        level
-          .copy()
-          .withVariables(variables)
-          .asScalar(Integer.class)
+        level.renderScalar(Integer.class, scope)
     );
 
     // Fall back to level 1 if not provided
@@ -0,0 +1,174 @@
+package me.blvckbytes.bblibconfig;
+
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.MemorySection;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  Checks that cached trees read back exactly like the yaml they've been parsed
+  from, and that every kind of unusable cache file falls back to the yaml.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class BinaryConfigCacheTest {
+
+  private static final String YAML = String.join("\n",
+    "# Header of the file",
+    "",
+    "name: test",
+    "count: 3",
+    "big: 10000000000",
+    "ratio: 0.25",
+    "enabled: true",
+    "created: 2026-10-18",
+    "db:",
+    "  host: localhost",
+    "  nested:",
+    "    deep: [1, two, 3.5, null]",
+    "items:",
+    "  - name: first",
+    "    lore: [a, b]",
+    "  - second",
+    "empty: {}",
+    ""
+  );
+
+  @TempDir
+  Path folder;
+
+  @Test
+  public void readsBackLikeTheYaml() throws Exception {
+    BinaryConfigCache cache = new BinaryConfigCache(folder.toFile());
+    YamlConfiguration yaml = parse(YAML);
+    byte[] hash = BinaryConfigCache.hash(YAML.getBytes(StandardCharsets.UTF_8));
+
+    cache.write("test", hash, yaml);
+    YamlConfiguration cached = cache.read("test", hash).orElseThrow();
+
+    assertEquals(flatten(yaml), flatten(cached));
+    assertEquals(yaml.options().header(), cached.options().header());
+    assertEquals(yaml.saveToString(), cached.saveToString());
+
+    // Nested paths are written into sub-folders
+    cache.write("lang/en", hash, yaml);
+    assertEquals(flatten(yaml), flatten(cache.read("lang/en", hash).orElseThrow()));
+  }
+
+  @Test
+  public void fallsBackOnOtherHashes() throws Exception {
+    BinaryConfigCache cache = new BinaryConfigCache(folder.toFile());
+
+    cache.write("test", BinaryConfigCache.hash(new byte[] { 1 }), parse(YAML));
+
+    assertTrue(cache.read("test", BinaryConfigCache.hash(new byte[] { 2 })).isEmpty());
+    assertTrue(cache.read("missing", BinaryConfigCache.hash(new byte[] { 1 })).isEmpty());
+  }
+
+  @Test
+  public void fallsBackOnTruncatedFiles() throws Exception {
+    BinaryConfigCache cache = new BinaryConfigCache(folder.toFile());
+    byte[] hash = BinaryConfigCache.hash(new byte[] { 1 });
+
+    cache.write("test", hash, parse(YAML));
+    File file = folder.resolve("test.bin").toFile();
+
+    for (long length : new long[] { file.length() - 1, file.length() / 2, 3, 0 }) {
+      try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+        raf.setLength(length);
+      }
+
+      assertTrue(cache.read("test", hash).isEmpty(), () -> "Read a file truncated to " + length + " bytes");
+    }
+  }
+
+  @Test
+  public void fallsBackOnOtherVersions() throws Exception {
+    BinaryConfigCache cache = new BinaryConfigCache(folder.toFile());
+    byte[] hash = BinaryConfigCache.hash(new byte[] { 1 });
+
+    cache.write("test", hash, parse(YAML));
+    Path file = folder.resolve("test.bin");
+
+    // The version directly follows the four magic bytes
+    byte[] content = Files.readAllBytes(file);
+    content[4]++;
+    Files.write(file, content);
+
+    assertTrue(cache.read("test", hash).isEmpty());
+  }
+
+  @Test
+  public void skipsUnsupportedValues() throws Exception {
+    BinaryConfigCache cache = new BinaryConfigCache(folder.toFile());
+    byte[] hash = BinaryConfigCache.hash(new byte[] { 1 });
+
+    cache.write("test", hash, parse(YAML));
+    assertTrue(cache.read("test", hash).isPresent());
+
+    // Integers beyond the range of longs are parsed as big integers
+    YamlConfiguration yaml = parse(YAML + "huge: 123456789012345678901234567890\n");
+    assertInstanceOf(BigInteger.class, yaml.get("huge"));
+
+    // Previously cached state is dropped instead of being kept or corrupted
+    cache.write("test", hash, yaml);
+    assertTrue(cache.read("test", hash).isEmpty());
+
+    try (Stream<Path> files = Files.list(folder)) {
+      assertEquals(List.of(), files.collect(Collectors.toList()));
+    }
+  }
+
+  //=========================================================================//
+  //                                Utilities                                //
+  //=========================================================================//
+
+  private YamlConfiguration parse(String yaml) throws InvalidConfigurationException {
+    YamlConfiguration cfg = new YamlConfiguration();
+    cfg.loadFromString(yaml);
+    return cfg;
+  }
+
+  /**
+   * Flatten all keys of a configuration, where sections are only marked as such,
+   * as sections of different configurations are never equal
+   * @param cfg Configuration to flatten
+   * @return Mapping all deep keys to their values
+   */
+  private Map<String, Object> flatten(YamlConfiguration cfg) {
+    Map<String, Object> res = new LinkedHashMap<>();
+
+    cfg.getValues(true).forEach((k, v) -> res.put(
+      k, v instanceof MemorySection ? "<section>" : v
+    ));
+
+    return res;
+  }
+}
@@ -0,0 +1,175 @@
+package me.blvckbytes.bblibconfig;
+
+import me.blvckbytes.bblibconfig.sections.DatabaseSection;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  Hammers reading values, parsing sections and looking up tables from many
+  threads while another thread keeps changing the config, which patches
+  cached sections in place, as well as stringifying and resolving shared
+  variables.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class ConfigAccessStressTest {
+
+  private static final String PATH = "stress";
+  private static final int READERS = 8, CHANGES = 500;
+
+  @Test
+  public void readsConsistentlyWhileChanging() throws Exception {
+    MemoryConfig cfg = new MemoryConfig(null, null).load(PATH, Map.of(
+      "db", Map.of("host", "host0", "port", 3306, "username", "root"),
+      "lut", Map.of("colors", Map.of("a", "red", "b", "blue")),
+      "numbers", List.of(1, 2, 3, 4, 5)
+    ));
+
+    ConfigReader reader = cfg.reader(PATH).orElseThrow();
+    Queue<Throwable> errors = new ConcurrentLinkedQueue<>();
+    CountDownLatch start = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(READERS + 1);
+
+    try {
+      List<Future<?>> tasks = new ArrayList<>();
+
+      for (int i = 0; i < READERS; i++) {
+        tasks.add(executor.submit(() -> {
+          start.await();
+
+          for (int j = 0; j < CHANGES * 10; j++) {
+            try {
+              assertTrue(cfg.get(PATH, "db.host").orElseThrow().asScalar().startsWith("host"));
+              assertEquals(3, cfg.get(PATH, "numbers[2]").orElseThrow().asScalar(Integer.class));
+
+              DatabaseSection db = reader.parseValue("db", DatabaseSection.class, true).orElseThrow();
+              assertTrue(db.getHost().asScalar().startsWith("host"));
+              assertEquals(3306, db.getPort().asScalar(Integer.class));
+
+              Map<String, String> colors = reader.getLut("colors").orElseThrow();
+              assertEquals(Map.of("a", "red", "b", "blue"), colors);
+            } catch (Throwable e) {
+              errors.add(e);
+              return null;
+            }
+          }
+
+          return null;
+        }));
+      }
+
+      tasks.add(executor.submit(() -> {
+        start.await();
+
+        for (int i = 1; i <= CHANGES; i++)
+          cfg.set(PATH, "db.host", "host" + i);
+
+        return null;
+      }));
+
+      start.countDown();
+
+      for (Future<?> task : tasks)
+        task.get(60, TimeUnit.SECONDS);
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertTrue(errors.isEmpty(), () -> "Concurrent access failed: " + errors.peek());
+
+    // The cached section has been patched by the last change
+    DatabaseSection db = reader.parseValue("db", DatabaseSection.class, true).orElseThrow();
+    assertEquals("host" + CHANGES, db.getHost().asScalar());
+  }
+
+  @Test
+  public void formatsVariablesConcurrently() throws Exception {
+    Random random = new Random(1);
+    List<Object> values = new ArrayList<>();
+
+    for (int i = 0; i < CHANGES; i++) {
+      values.add(random.nextDouble() * 1000);
+      values.add(new Date(random.nextInt(Integer.MAX_VALUE) * 1000L));
+    }
+
+    // Formatted on a single thread first, which is the expected outcome
+    List<Map<String, String>> expected = new ArrayList<>();
+    for (Object value : values)
+      expected.add(ConfigValue.singleVariable("value", value));
+
+    CountDownLatch start = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(READERS);
+
+    try {
+      List<Future<?>> tasks = new ArrayList<>();
+
+      for (int i = 0; i < READERS; i++) {
+        tasks.add(executor.submit(() -> {
+          start.await();
+
+          for (int j = 0; j < 10; j++) {
+            for (int k = 0; k < values.size(); k++)
+              assertEquals(expected.get(k), ConfigValue.singleVariable("value", values.get(k)));
+          }
+
+          return null;
+        }));
+      }
+
+      start.countDown();
+
+      for (Future<?> task : tasks)
+        task.get(60, TimeUnit.SECONDS);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void suppliesSharedVariablesOnce() throws Exception {
+    AtomicInteger calls = new AtomicInteger();
+    VariableValue value = VariableValue.lazy(() -> calls.incrementAndGet() * 1.5, " ms");
+    CountDownLatch start = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(READERS);
+
+    try {
+      List<Future<String>> tasks = new ArrayList<>();
+
+      for (int i = 0; i < READERS; i++) {
+        tasks.add(executor.submit(() -> {
+          start.await();
+          return value.format();
+        }));
+      }
+
+      start.countDown();
+
+      for (Future<String> task : tasks)
+        assertEquals("1.50 ms", task.get(60, TimeUnit.SECONDS));
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertEquals(1, calls.get());
+    assertEquals("1.50 ms", value.getValue());
+  }
+}
@@ -0,0 +1,119 @@
+package me.blvckbytes.bblibconfig;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  Checks that requested saves are coalesced, flushed and still written once
+  the writer has been shut down, as well as that files are replaced atomically.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class ConfigWriterTest {
+
+  @Test
+  public void coalescesRequests() throws Exception {
+    Map<String, Integer> writes = new ConcurrentHashMap<>();
+    CountDownLatch written = new CountDownLatch(2);
+
+    ConfigWriter writer = new ConfigWriter(100, path -> {
+      writes.merge(path, 1, Integer::sum);
+      written.countDown();
+    });
+
+    try {
+      for (int i = 0; i < 10; i++) {
+        writer.request("a");
+        writer.request("b");
+      }
+
+      assertTrue(written.await(10, TimeUnit.SECONDS));
+
+      // Give superfluous writes the chance to happen
+      Thread.sleep(300);
+      assertEquals(Map.of("a", 1, "b", 1), writes);
+
+      // Requests after a write are written again
+      writer.request("a");
+      writer.flush();
+      assertEquals(Map.of("a", 2, "b", 1), writes);
+    } finally {
+      writer.shutdown();
+    }
+  }
+
+  @Test
+  public void flushesPendingRequests() throws Exception {
+    Map<String, Integer> writes = new ConcurrentHashMap<>();
+    ConfigWriter writer = new ConfigWriter(200, path -> writes.merge(path, 1, Integer::sum));
+
+    try {
+      writer.request("a");
+      writer.request("a");
+      writer.flush();
+      assertEquals(Map.of("a", 1), writes);
+
+      // The scheduled write finds nothing left to write
+      Thread.sleep(500);
+      assertEquals(Map.of("a", 1), writes);
+    } finally {
+      writer.shutdown();
+    }
+  }
+
+  @Test
+  public void writesOnTheCallerOnceShutDown() {
+    Map<String, Thread> writes = new ConcurrentHashMap<>();
+    ConfigWriter writer = new ConfigWriter(60_000, path -> writes.put(path, Thread.currentThread()));
+
+    writer.request("pending");
+    writer.shutdown();
+    assertSame(Thread.currentThread(), writes.get("pending"));
+
+    writer.request("late");
+    assertSame(Thread.currentThread(), writes.get("late"));
+  }
+
+  @Test
+  public void replacesFilesAtomically(@TempDir Path folder) throws Exception {
+    Path target = folder.resolve("config.yml");
+
+    ConfigWriter.writeAtomically(target, "a: 1\n".getBytes(StandardCharsets.UTF_8));
+    assertEquals("a: 1\n", Files.readString(target));
+
+    ConfigWriter.writeAtomically(target, "a: 2\n".getBytes(StandardCharsets.UTF_8));
+    assertEquals("a: 2\n", Files.readString(target));
+
+    // No temporary files are left behind
+    try (Stream<Path> files = Files.list(folder)) {
+      assertEquals(List.of(target), files.collect(Collectors.toList()));
+    }
+  }
+}
@@ -0,0 +1,35 @@
+package me.blvckbytes.bblibconfig;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  A class made up of static self-typed constants, just like many types of
+  Bukkit, where some of the constants are not accessible from the outside.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class ConstantHolder {
+
+  public static final ConstantHolder FIRST = new ConstantHolder();
+  private static final ConstantHolder HIDDEN = new ConstantHolder();
+  public static final ConstantHolder SECOND = new ConstantHolder();
+
+  // Declared later under an equally folded name, the first declaration wins
+  public static final ConstantHolder first = new ConstantHolder();
+
+  public static ConstantHolder hidden() {
+    return HIDDEN;
+  }
+}
@@ -0,0 +1,202 @@
+package me.blvckbytes.bblibconfig;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  Checks that compiled key paths resolve, and that indexed keys exist,
+  exactly like with the regex based lookup which YamlConfig used before
+  keys were compiled.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class KeyPathTest {
+
+  private static final String[] NAMES = { "a", "b", "list", "" };
+
+  // Indexed keys only consist of non-empty names, as the empty name is the root's
+  private static final String[] INDEXED_NAMES = { "a", "b", "list" };
+
+  private static final String[] INDICES = {
+    "", "", "", "[0]", "[1]", "[2]", "[01]", "[000]", "[]", "[x]", "[1]x", "[1][0]", "[99999999999]"
+  };
+
+  @Test
+  public void resolvesLikeTheRegexLookup() {
+    Random random = new Random(1);
+
+    for (int i = 0; i < 200; i++) {
+      Map<String, Object> root = randomMap(random, 3, NAMES);
+
+      for (int j = 0; j < 500; j++) {
+        String key = randomKey(random, NAMES);
+        assertSame(retrieveIndexed(root, key), KeyPath.of(key).resolve(root), key);
+      }
+    }
+  }
+
+  @Test
+  public void indexesLikeTheRegexLookup() {
+    Random random = new Random(2);
+
+    for (int i = 0; i < 200; i++) {
+      Map<String, Object> root = randomMap(random, 3, INDEXED_NAMES);
+      PathIndex index = PathIndex.build(root);
+
+      for (int j = 0; j < 500; j++) {
+        String key = randomKey(random, INDEXED_NAMES);
+
+        // Plain keys were looked up by the section itself, not by the regex lookup
+        if (!KeyPath.of(key).isIndexed())
+          continue;
+
+        // Only keys which resolve to a value exist
+        assertEquals(retrieveIndexed(root, key) != null, index.contains(key), key);
+      }
+    }
+  }
+
+  @Test
+  public void canonicalizesIndices() {
+    assertEquals("a[0].b", KeyPath.of("a[00].b").toCanonical());
+    assertEquals("a.b[12]", KeyPath.of("a.b[012]").toCanonical());
+    assertEquals("a[1]x.b", KeyPath.of("a[1]x.b").toCanonical());
+    assertNull(KeyPath.of("a[99999999999]").toCanonical());
+  }
+
+  @Test
+  public void detectsIndexedKeys() {
+    assertTrue(KeyPath.of("a.b[0]").isIndexed());
+    assertTrue(KeyPath.of("a[1]x.b").isIndexed());
+    assertFalse(KeyPath.of("a.b[]").isIndexed());
+    assertFalse(KeyPath.of("a.b").isIndexed());
+    assertFalse(KeyPath.of("a[99999999999]").isValid());
+  }
+
+  @Test
+  public void matchesPrefixes() {
+    assertTrue(KeyPath.isWithin("a.b", ""));
+    assertTrue(KeyPath.isWithin("a.b", "a"));
+    assertTrue(KeyPath.isWithin("a[0].b", "a"));
+    assertTrue(KeyPath.isWithin("a", "a"));
+    assertFalse(KeyPath.isWithin("ab", "a"));
+    assertFalse(KeyPath.isWithin("a", "a.b"));
+  }
+
+  //=========================================================================//
+  //                                Utilities                                //
+  //=========================================================================//
+
+  /**
+   * The lookup of indexed keys as it was implemented before keys were compiled
+   * @param root Root node to start at
+   * @param key Key to resolve
+   * @return Resolved value, null if unresolvable
+   */
+  private Object retrieveIndexed(Map<String, Object> root, String key) {
+    Object obj = root;
+
+    for (String level : key.split("\\.")) {
+      Integer i = null;
+
+      if (level.matches("(.*)\\[\\d+\\]$")) {
+        String index = level.substring(level.indexOf('[') + 1, level.indexOf(']'));
+        level = level.substring(0, level.indexOf('['));
+
+        try {
+          i = Integer.parseInt(index);
+        } catch (NumberFormatException e) {
+          return null;
+        }
+      }
+
+      if (!(obj instanceof Map<?, ?>))
+        return null;
+
+      obj = ((Map<?, ?>) obj).get(level);
+
+      if (i != null) {
+        if (!(obj instanceof List<?>))
+          return null;
+
+        List<?> l = (List<?>) obj;
+
+        if (i < 0 || i >= l.size())
+          return null;
+
+        obj = l.get(i);
+      }
+
+      if (obj == null)
+        return null;
+    }
+
+    return obj;
+  }
+
+  private String randomKey(Random random, String[] names) {
+    StringBuilder key = new StringBuilder();
+    int levels = 1 + random.nextInt(4);
+
+    for (int i = 0; i < levels; i++) {
+      if (i > 0)
+        key.append('.');
+
+      key.append(names[random.nextInt(names.length)]);
+      key.append(INDICES[random.nextInt(INDICES.length)]);
+    }
+
+    return key.toString();
+  }
+
+  private Map<String, Object> randomMap(Random random, int depth, String[] names) {
+    Map<String, Object> map = new LinkedHashMap<>();
+
+    for (String name : names) {
+      if (random.nextInt(4) > 0)
+        map.put(name, randomNode(random, depth, names));
+    }
+
+    return map;
+  }
+
+  private Object randomNode(Random random, int depth, String[] names) {
+    if (depth == 0)
+      return "leaf" + random.nextInt(100);
+
+    switch (random.nextInt(3)) {
+      case 0:
+        return randomMap(random, depth - 1, names);
+
+      case 1: {
+        List<Object> list = new ArrayList<>();
+        int size = random.nextInt(3);
+
+        for (int i = 0; i < size; i++)
+          list.add(randomNode(random, depth - 1, names));
+
+        return list;
+      }
+
+      default:
+        return "leaf" + random.nextInt(100);
+    }
+  }
+}
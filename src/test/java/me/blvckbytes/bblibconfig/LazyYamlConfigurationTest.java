@@ -0,0 +1,318 @@
+package me.blvckbytes.bblibconfig;
+
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.MemorySection;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  Checks that lazily loaded documents read exactly like eagerly parsed ones,
+  that only accessed keys are materialized, also within files which wrap
+  all of their keys into sections, that constructs spanning multiple lines
+  stay within their span and that documents which cannot be split safely
+  are rejected.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class LazyYamlConfigurationTest {
+
+  private static final String YAML = String.join("\n",
+    "# Header of the file",
+    "",
+    "name: test",
+    "db:",
+    "  host: localhost",
+    "  # Comments within spans are kept",
+    "  port: 3306",
+    "",
+    "items:",
+    "  - name: first",
+    "  - name: second",
+    "text: |",
+    "  first line",
+    "",
+    "  after a blank line",
+    "flow: {a: 1, b: [2, 3]}",
+    "url: http://localhost:8080",
+    "colon: a:b",
+    ""
+  );
+
+  @Test
+  public void readsLikeEagerParsing() throws Exception {
+    assertReadsLikeEager(YAML);
+    assertReadsLikeEager("a: 1\n");
+    assertReadsLikeEager("");
+
+    // Headers which are directly followed by content
+    assertReadsLikeEager("# First\n# Second\na: 1\nb: 2\n");
+    assertReadsLikeEager("#No space\n# Header\n\n# Not part of it\na: 1\n");
+  }
+
+  @Test
+  public void keepsMultiLineConstructsWithinTheirSpan() throws Exception {
+    String yaml = String.join("\n",
+      "quoted: \"hello",
+      "b: world\"",
+      "single: 'it''s",
+      "# not a comment",
+      "c: x'",
+      "flow: [1,",
+      "2,",
+      "d: 3]",
+      "map: {x: 1,",
+      "y: 2}",
+      "literal: |",
+      "  it's \"open",
+      "  [e: 4",
+      "",
+      "folded: >-",
+      "  f: 5",
+      "items:",
+      "- first",
+      "- second: 2",
+      "empty: |",
+      "last: 1",
+      ""
+    );
+
+    assertReadsLikeEager(yaml);
+
+    LazyYamlConfiguration lazy = split(yaml);
+    assertEquals(
+      List.of("quoted", "single", "flow", "map", "literal", "folded", "items", "empty", "last"),
+      new ArrayList<>(lazy.getKeys(false))
+    );
+
+    assertEquals("hello b: world", lazy.get("quoted"));
+    assertEquals(8, lazy.getPendingCount());
+
+    // Constructs which are still open at the end cannot be split
+    assertNull(LazyYamlConfiguration.split("a: \"open\nb: 1\n", null));
+    assertNull(LazyYamlConfiguration.split("a: [1,\nb: 1\n", null));
+  }
+
+  @Test
+  public void keepsTheOrderOfTheFile() throws Exception {
+    YamlConfiguration eager = new YamlConfiguration();
+    eager.loadFromString(YAML);
+
+    // Keys materialized out of order are restored to the file's order
+    LazyYamlConfiguration lazy = split(YAML);
+    lazy.get("flow.a");
+    lazy.get("db.host");
+    lazy.set("added", 1);
+
+    List<String> expected = new ArrayList<>(eager.getKeys(true));
+    expected.add("added");
+
+    assertEquals(expected, new ArrayList<>(lazy.getKeys(true)));
+    assertEquals(expected, new ArrayList<>(lazy.getValues(true).keySet()));
+  }
+
+  @Test
+  public void materializesAccessedKeysOnly() {
+    LazyYamlConfiguration lazy = split(YAML);
+    assertEquals(7, lazy.getPendingCount());
+
+    // Listing keys of the split level requires no parsing
+    assertEquals(List.of("name", "db", "items", "text", "flow", "url", "colon"), new ArrayList<>(lazy.getKeys(false)));
+    assertEquals(7, lazy.getPendingCount());
+
+    assertEquals(3306, lazy.get("db.port"));
+    assertEquals(6, lazy.getPendingCount());
+
+    // Changes materialize their key before being applied
+    lazy.set("name", null);
+    lazy.set("added", 1);
+    assertEquals(5, lazy.getPendingCount());
+    assertEquals(List.of("db", "items", "text", "flow", "url", "colon", "added"), new ArrayList<>(lazy.getKeys(false)));
+    assertNull(lazy.get("name"));
+
+    lazy.getKeys(true);
+    assertEquals(0, lazy.getPendingCount());
+  }
+
+  @Test
+  public void splitsWrappedFiles() throws Exception {
+    String yaml = String.join("\n",
+      "# Header",
+      "",
+      "plugin:",
+      "  # Comments above the split level",
+      "  settings:",
+      "    first:",
+      "      value: 1",
+      "    second: 2",
+      "    third: [3, 4]",
+      ""
+    );
+
+    assertReadsLikeEager(yaml);
+
+    LazyYamlConfiguration lazy = split(yaml);
+    assertEquals("plugin.settings", lazy.getPrefix());
+    assertEquals(3, lazy.getPendingCount());
+
+    assertEquals(1, lazy.get("plugin.settings.first.value"));
+    assertEquals(2, lazy.getPendingCount());
+
+    // Accessing the prefix itself requires all of it's keys
+    assertInstanceOf(MemorySection.class, lazy.get("plugin"));
+    assertEquals(0, lazy.getPendingCount());
+    assertEquals(List.of(3, 4), lazy.get("plugin.settings.third"));
+
+    // Single keys which are no sections are split at the top level
+    lazy = split("only: value\n");
+    assertEquals("", lazy.getPrefix());
+    assertEquals("value", lazy.get("only"));
+  }
+
+  @Test
+  public void parsesWrappedFilesWithoutMaterializingUnrelatedKeys() {
+    LazyYamlConfiguration lazy = split(String.join("\n",
+      "plugin:",
+      "  settings:",
+      "    first: 1",
+      "    second:",
+      "      - a",
+      "      - b",
+      "    third: 3",
+      "    fourth: 4",
+      ""
+    ));
+
+    // Resolves raw nodes just like YamlConfig, all other accessors are unused
+    IConfig cfg = new IConfig() {
+
+      @Override
+      public Optional<ConfigValue> get(String path, String key) {
+        return Optional.empty();
+      }
+
+      @Override
+      public boolean exists(String path, String key) {
+        return false;
+      }
+
+      @Override
+      public Optional<Object> resolve(String path, String key) {
+        return Optional.ofNullable(KeyPath.of(key).isIndexed() ? KeyPath.of(key).resolve(lazy) : lazy.get(key));
+      }
+
+      @Override
+      public Optional<ConfigReader> reader(String path) {
+        return Optional.empty();
+      }
+    };
+
+    Map<String, Class<?>> requests = new LinkedHashMap<>();
+    requests.put("plugin.settings.first", ConfigValue.class);
+    requests.put("plugin.settings.second[1]", ConfigValue.class);
+
+    ParseResults results = new ConfigReader(cfg, "test", null, null).parseAll(requests, false);
+
+    assertEquals(1, results.get("plugin.settings.first", ConfigValue.class).orElseThrow().asScalar(Integer.class));
+    assertEquals("b", results.get("plugin.settings.second[1]", ConfigValue.class).orElseThrow().asScalar());
+    assertEquals(2, lazy.getPendingCount());
+  }
+
+  @Test
+  public void rejectsUnsplittableDocuments() {
+    // Anchors and aliases
+    assertNull(LazyYamlConfiguration.split("a: &x 1\nb: *x\n", null));
+    assertNull(LazyYamlConfiguration.split("a:\n  - &x 1\nb: [*x]\n", null));
+
+    // Directives and document markers
+    assertNull(LazyYamlConfiguration.split("%YAML 1.1\n---\na: 1\n", null));
+    assertNull(LazyYamlConfiguration.split("---\na: 1\n", null));
+
+    // Top level lists, complex, quoted and dotted keys
+    assertNull(LazyYamlConfiguration.split("- a\n- b\n", null));
+    assertNull(LazyYamlConfiguration.split("? a\n: 1\n", null));
+    assertNull(LazyYamlConfiguration.split("\"a\": 1\n", null));
+    assertNull(LazyYamlConfiguration.split("a.b: 1\n", null));
+
+    // Duplicate keys
+    assertNull(LazyYamlConfiguration.split("a: 1\nb: 2\na: 3\n", null));
+
+    // Wrapped files fall back to the level above of an unsplittable level
+    LazyYamlConfiguration lazy = split("root:\n  - a\n  - b\n");
+    assertEquals("", lazy.getPrefix());
+    assertEquals(List.of("a", "b"), lazy.get("root"));
+  }
+
+  //=========================================================================//
+  //                                Utilities                                //
+  //=========================================================================//
+
+  private LazyYamlConfiguration split(String yaml) {
+    LazyYamlConfiguration lazy = LazyYamlConfiguration.split(yaml, null);
+    assertNotNull(lazy, () -> "Could not split:\n" + yaml);
+    return lazy;
+  }
+
+  /**
+   * Assert that a document reads equally when loaded lazily and eagerly, where the
+   * lazy documents are split freshly for each check, so that materializing
+   * by one check cannot affect the others
+   * @param yaml Document to check
+   */
+  private void assertReadsLikeEager(String yaml) throws InvalidConfigurationException {
+    YamlConfiguration eager = new YamlConfiguration();
+    eager.loadFromString(yaml);
+
+    assertEquals(eager.options().header(), split(yaml).options().header());
+    assertEquals(new ArrayList<>(eager.getKeys(false)), new ArrayList<>(split(yaml).getKeys(false)));
+    assertEquals(new ArrayList<>(eager.getKeys(true)), new ArrayList<>(split(yaml).getKeys(true)));
+    assertEquals(
+      new ArrayList<>(flatten(eager.getValues(true)).entrySet()),
+      new ArrayList<>(flatten(split(yaml).getValues(true)).entrySet())
+    );
+
+    // Saved documents read back to the same values
+    YamlConfiguration saved = new YamlConfiguration();
+    saved.loadFromString(split(yaml).saveToString());
+    assertEquals(flatten(eager.getValues(true)), flatten(saved.getValues(true)));
+
+    // Accessing each key on it's own materializes only what it needs
+    for (String key : eager.getKeys(true)) {
+      Object value = split(yaml).get(key);
+
+      if (value instanceof MemorySection)
+        assertInstanceOf(MemorySection.class, eager.get(key), key);
+      else
+        assertEquals(eager.get(key), value, key);
+    }
+  }
+
+  /**
+   * Flatten values, where sections are only marked as such, as sections
+   * of different configurations are never equal
+   * @param values Values to flatten
+   * @return Flattened values
+   */
+  private Map<String, Object> flatten(Map<String, Object> values) {
+    Map<String, Object> res = new LinkedHashMap<>();
+    values.forEach((k, v) -> res.put(k, v instanceof MemorySection ? "<section>" : v));
+    return res;
+  }
+}
@@ -0,0 +1,78 @@
+package me.blvckbytes.bblibconfig;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  Checks which fields mapping plans bind and that sections are mapped through them.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class MappingPlanTest {
+
+  @Test
+  public void bindsInstanceFieldsOnly() {
+    MappingPlan plan = MappingPlan.of(PlannedSection.class);
+
+    assertEquals(
+      Set.of("title", "amount"),
+      plan.getBindings().stream().map(FieldBinding::getName).collect(Collectors.toSet())
+    );
+
+    // Plans are only compiled once per class
+    assertSame(plan, MappingPlan.of(PlannedSection.class));
+  }
+
+  @Test
+  public void mapsSectionsWithStaticFields() {
+    MemoryConfig cfg = new MemoryConfig(null, null).load("test", Map.of(
+      "section", Map.of("title", "Hello", "amount", 5, "shared", "changed", "NAME", "changed", "note", "changed")
+    ));
+
+    PlannedSection section = cfg.reader("test").orElseThrow()
+      .parseValue("section", PlannedSection.class, false)
+      .orElseThrow();
+
+    assertEquals("Hello", section.getTitle().asScalar());
+    assertEquals(5, section.getAmount());
+    assertEquals("unchanged", PlannedSection.shared);
+    assertNull(section.getNote());
+  }
+
+  @Test
+  public void handsOutCopiesOfThePlannedFields() {
+    MappingPlan plan = MappingPlan.of(PlannedSection.class);
+    ConfigReader reader = new MemoryConfig(null, null)
+      .load("test", Map.of("first", Map.of("amount", 1), "second", Map.of("amount", 2)))
+      .reader("test").orElseThrow();
+
+    List<String> names = plan.getFields().stream().map(Field::getName).collect(Collectors.toList());
+
+    // Clearing the list within afterParsing affects neither the plan nor later sections
+    for (String key : List.of("first", "second"))
+      assertEquals(names, reader.parseValue(key, PlannedSection.class, false).orElseThrow().getParsedFields());
+
+    assertEquals(names, plan.getFields().stream().map(Field::getName).collect(Collectors.toList()));
+  }
+}
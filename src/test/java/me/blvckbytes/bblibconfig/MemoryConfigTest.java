@@ -0,0 +1,218 @@
+package me.blvckbytes.bblibconfig;
+
+import me.blvckbytes.bblibconfig.sections.DatabaseSection;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  Checks loading, reading and changing in-memory configs, as well
+  as patching parsed sections of their readers on changes.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class MemoryConfigTest {
+
+  private static final String YAML = String.join("\n",
+    "db:",
+    "  host: localhost",
+    "  port: 3306",
+    "items:",
+    "  - name: first",
+    "  - name: second",
+    "lut:",
+    "  colors:",
+    "    a: red",
+    ""
+  );
+
+  @Test
+  public void resolvesKeysOfYaml() {
+    MemoryConfig cfg = new MemoryConfig(null, null).load("test", YAML);
+
+    assertEquals("localhost", cfg.get("test", "db.host").orElseThrow().asScalar());
+    assertEquals(3306, cfg.get("test", "db.port").orElseThrow().asScalar(Integer.class));
+    assertEquals("second", cfg.get("test", "items[1].name").orElseThrow().asScalar());
+
+    assertTrue(cfg.exists("test", "items[0].name"));
+    assertFalse(cfg.exists("test", "items[2]"));
+    assertFalse(cfg.exists("test", "db.user"));
+
+    assertTrue(cfg.get("test", "db.user").isEmpty());
+    assertTrue(cfg.get("unknown", "db.host").isEmpty());
+  }
+
+  @Test
+  public void rejectsMalformedOrUnsafeYaml() {
+    MemoryConfig cfg = new MemoryConfig(null, null);
+
+    assertThrows(IllegalArgumentException.class, () -> cfg.load("test", "a: [b"));
+    assertThrows(IllegalArgumentException.class, () -> cfg.load("test", "- a\n- b"));
+    assertThrows(IllegalArgumentException.class, () -> cfg.load("test", "a: !!java.io.File [\"/\"]"));
+  }
+
+  @Test
+  public void copiesLoadedTrees() {
+    Map<String, Object> inner = new HashMap<>(Map.of("b", 1));
+    MemoryConfig cfg = new MemoryConfig(null, null).load("test", Map.of("a", inner));
+
+    inner.put("b", 2);
+    assertEquals(1, cfg.resolve("test", "a.b").orElseThrow());
+  }
+
+  @Test
+  public void parsesMultipleKeysInRequestOrder() {
+    ConfigReader reader = new MemoryConfig(null, null).load("test", YAML).reader("test").orElseThrow();
+
+    Map<String, Class<?>> requests = new LinkedHashMap<>();
+    requests.put("db.port", Integer.class);
+    requests.put("db.user", String.class);
+    requests.put("db.host", String.class);
+
+    ParseResults results = reader.parseAll(requests, true);
+
+    assertEquals(3306, results.get("db.port", int.class).orElseThrow());
+    assertEquals("localhost", results.get("db.host", String.class).orElseThrow());
+    assertFalse(results.contains("db.user"));
+    assertEquals(List.of("db.port", "db.user", "db.host"), List.copyOf(results.getTimings().keySet()));
+
+    requests.put(null, String.class);
+    assertThrows(IllegalArgumentException.class, () -> reader.parseAll(requests, true));
+  }
+
+  @Test
+  public void patchesParsedSectionsOnChanges() {
+    MemoryConfig cfg = new MemoryConfig(null, null).load("test", YAML);
+    ConfigReader reader = cfg.reader("test").orElseThrow();
+
+    DatabaseSection db = reader.parseValue("db", DatabaseSection.class, true).orElseThrow();
+    ConfigValue port = db.getPort();
+
+    AtomicReference<Set<String>> changes = new AtomicReference<>();
+    reader.addChangeListener(changes::set);
+
+    assertTrue(cfg.set("test", "db.host", "remote"));
+
+    // The very same section has been patched, where unchanged values are kept
+    assertSame(db, reader.parseValue("db", DatabaseSection.class, true).orElseThrow());
+    assertEquals("remote", db.getHost().asScalar());
+    assertSame(port, db.getPort());
+    assertEquals(Set.of("db.host"), changes.get());
+
+    // Removing a key removes it from the index as well
+    assertTrue(cfg.set("test", "items", null));
+    assertFalse(cfg.exists("test", "items[0].name"));
+    assertEquals(List.of(), reader.parseValue("items", List.class, false).orElse(List.of()));
+
+    assertThrows(IllegalArgumentException.class, () -> cfg.set("test", "items[0]", "x"));
+  }
+
+  @Test
+  public void notifiesListenersWithoutHoldingTheLock() throws Exception {
+    MemoryConfig cfg = new MemoryConfig(null, null).load("test", YAML);
+    ConfigReader reader = cfg.reader("test").orElseThrow();
+    AtomicReference<Set<String>> nested = new AtomicReference<>();
+
+    // Listeners which change the config from another thread would dead-lock otherwise
+    reader.addChangeListener(changed -> {
+      if (changed.contains("db.host"))
+        CompletableFuture.runAsync(() -> cfg.set("test", "db.port", 3307)).join();
+      else
+        nested.set(changed);
+    });
+
+    CompletableFuture.runAsync(() -> cfg.set("test", "db.host", "remote")).get(10, TimeUnit.SECONDS);
+    assertEquals(Set.of("db.port"), nested.get());
+    assertEquals(3307, cfg.get("test", "db.port").orElseThrow().asScalar(Integer.class));
+  }
+
+  @Test
+  public void mapsInParallelLikeSequentially() throws Exception {
+    List<Object> items = new ArrayList<>();
+    List<Object> dbs = new ArrayList<>();
+    Map<String, Object> map = new LinkedHashMap<>();
+
+    for (int i = 0; i < 200; i++) {
+      items.add("item" + i);
+      dbs.add(Map.of("host", "host" + i, "port", i));
+      map.put("key" + i, "value" + i);
+    }
+
+    // Lists end at their first missing element
+    items.set(150, null);
+
+    ConfigReader reader = new MemoryConfig(null, null)
+      .load("test", Map.of("items", items, "dbs", dbs, "map", map))
+      .reader("test").orElseThrow();
+
+    List<Object> sequential = mapLargeValues(reader);
+    assertEquals(150, ((List<?>) sequential.get(0)).size());
+
+    AtomicInteger workers = new AtomicInteger();
+    ForkJoinPool pool = new ForkJoinPool(4, p -> {
+      workers.incrementAndGet();
+      return ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+    }, null, false);
+
+    ForkJoinPool other = new ForkJoinPool(2);
+
+    try {
+      reader.setParallelPool(pool);
+
+      // Mapping from within another pool still maps on the configured pool
+      assertEquals(sequential, other.submit(() -> mapLargeValues(reader)).get(10, TimeUnit.SECONDS));
+      assertTrue(workers.get() > 0);
+
+      assertEquals(sequential, mapLargeValues(reader));
+    } finally {
+      reader.setParallelPool(null);
+      pool.shutdown();
+      other.shutdown();
+    }
+  }
+
+  /**
+   * Map lists and maps which are large enough to be mapped in parallel into comparable values
+   * @param reader Reader to map with
+   * @return Scalars of the items, hosts of the databases and entries of the map, all in order
+   */
+  private List<Object> mapLargeValues(ConfigReader reader) {
+    ConfigValue[] items = reader.parseValue("items", ConfigValue[].class, false).orElseThrow();
+    DatabaseSection[] dbs = reader.parseValue("dbs", DatabaseSection[].class, false).orElseThrow();
+    Map<?, ?> map = reader.parseValue("map", Map.class, false).orElseThrow();
+
+    return List.of(
+      Arrays.stream(items).map(ConfigValue::asScalar).collect(Collectors.toList()),
+      Arrays.stream(dbs).map(db -> db.getHost().asScalar()).collect(Collectors.toList()),
+      new ArrayList<>(map.entrySet())
+    );
+  }
+}
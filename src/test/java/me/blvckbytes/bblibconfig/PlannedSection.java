@@ -0,0 +1,68 @@
+package me.blvckbytes.bblibconfig;
+
+import me.blvckbytes.bblibconfig.sections.CSIgnore;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  A section which declares static and ignored fields next to it's mapped
+  fields, used to check that only the instance's own state is mapped and
+  that the fields handed to afterParsing belong to the section alone.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class PlannedSection extends AConfigSection {
+
+  public static final String NAME = "planned";
+
+  public static String shared = "unchanged";
+
+  private ConfigValue title;
+  private int amount;
+
+  @CSIgnore
+  private String note;
+
+  @CSIgnore
+  private List<String> parsedFields;
+
+  @Override
+  public void afterParsing(List<Field> fields) {
+    parsedFields = fields.stream().map(Field::getName).collect(Collectors.toList());
+
+    // Sections may change the list they've been handed
+    fields.clear();
+  }
+
+  public ConfigValue getTitle() {
+    return title;
+  }
+
+  public int getAmount() {
+    return amount;
+  }
+
+  public String getNote() {
+    return note;
+  }
+
+  public List<String> getParsedFields() {
+    return parsedFields;
+  }
+}
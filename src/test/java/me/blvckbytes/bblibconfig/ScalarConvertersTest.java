@@ -0,0 +1,83 @@
+package me.blvckbytes.bblibconfig;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  Checks that scalars are converted like before converters were resolved once per
+  type, including lookups of constants by their case-folded names and the quirks
+  of numeric conversions, as well as that resolved converters can be dropped.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class ScalarConvertersTest {
+
+  @Test
+  public void looksUpEnumsByCaseFoldedNames() throws Exception {
+    IScalarConverter converter = ScalarConverters.of(TimeUnit.class);
+
+    assertEquals(Optional.of(TimeUnit.SECONDS), converter.convert("SECONDS", "SECONDS"));
+    assertEquals(Optional.of(TimeUnit.SECONDS), converter.convert("seconds", "seconds"));
+    assertEquals(Optional.of(TimeUnit.MILLISECONDS), converter.convert("MilliSeconds", "MilliSeconds"));
+    assertEquals(Optional.empty(), converter.convert("weeks", "weeks"));
+
+    assertEquals(TimeUnit.HOURS, ConfigValue.immediate(" hours ").asScalar(TimeUnit.class));
+  }
+
+  @Test
+  public void skipsInaccessibleConstants() throws Exception {
+    IScalarConverter converter = ScalarConverters.of(ConstantHolder.class);
+
+    assertSame(ConstantHolder.FIRST, converter.convert("first", "first").orElseThrow());
+    assertSame(ConstantHolder.SECOND, converter.convert("Second", "Second").orElseThrow());
+
+    // Private constants are neither an error nor found
+    assertEquals(Optional.empty(), converter.convert("hidden", "hidden"));
+  }
+
+  @Test
+  public void keepsTheQuirksOfNumbers() {
+    assertEquals(5, ConfigValue.immediate("5").asScalar(Integer.class));
+    assertEquals(5, ConfigValue.immediate(" 5 ").asScalar(int.class));
+
+    // Longs are parsed as integers, which only casts values which are longs already
+    assertNull(ConfigValue.immediate("5").asScalar(Long.class));
+    assertEquals(5L, ConfigValue.immediate(5L).asScalar(Long.class));
+
+    // Floating points are parsed as floats, just like longs
+    assertEquals(1.5F, ConfigValue.immediate("1.5").asScalar(Float.class));
+    assertNull(ConfigValue.immediate("1.5").asScalar(Double.class));
+
+    assertNull(ConfigValue.immediate("five").asScalar(Integer.class));
+  }
+
+  @Test
+  public void dropsResolvedConverters() {
+    IScalarConverter converter = ScalarConverters.of(TimeUnit.class);
+    assertSame(converter, ScalarConverters.of(TimeUnit.class));
+
+    ScalarConverters.clearCache();
+    ConfigReader.clearKeyConverters();
+
+    assertNotSame(converter, ScalarConverters.of(TimeUnit.class));
+    assertEquals(TimeUnit.DAYS, ConfigValue.immediate("days").asScalar(TimeUnit.class));
+  }
+}
@@ -0,0 +1,77 @@
+package me.blvckbytes.bblibconfig;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  Checks that copying variables out of maps, scopes and scoped providers
+  carries over their values without supplying or stringifying them.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class VariableMapTest {
+
+  @Test
+  public void copiesScopesWithoutSupplying() {
+    AtomicInteger calls = new AtomicInteger();
+
+    VariableMap base = new VariableMap();
+    base.putValue("a", VariableValue.lazy(() -> calls.incrementAndGet() * 2, null));
+    base.putValue("b", VariableValue.of(1, null));
+
+    VariableScope scope = VariableScope.of(base).with(Map.of("b", "upper"));
+
+    VariableMap copy = new VariableMap();
+    copy.putAll(scope);
+    assertEquals(0, calls.get());
+
+    // Upper layers override, while typed values are kept
+    assertEquals("upper", copy.get("b"));
+    assertEquals(2, copy.getValue("a"));
+    assertEquals(1, calls.get());
+  }
+
+  @Test
+  public void copiesScopedProvidersWithoutSupplying() {
+    AtomicInteger calls = new AtomicInteger();
+
+    ConfigValue value = ConfigValue.immediate("{{a}} {{b}}")
+      .withVariable("a", () -> calls.incrementAndGet() > 0 ? 2 : 0)
+      .withVariable("b", "own");
+
+    VariableMap layer = new VariableMap();
+    layer.putValue("b", VariableValue.lazy(() -> calls.incrementAndGet() > 0 ? 3 : 0, null));
+
+    ScopedDataProvider provider = new ScopedDataProvider(value, VariableScope.of(layer));
+
+    ConfigValue carried = ConfigValue.makeEmpty().withVariables(provider);
+    ConfigValue evaluated = value.evaluateAll(provider);
+    assertEquals(0, calls.get());
+
+    // The scope overrides the value's own variables
+    assertEquals(2, carried.getVariableValue("a"));
+    assertEquals(3, carried.getVariableValue("b"));
+    assertEquals(3, evaluated.getVariableValue("b"));
+
+    // Both copies share the very same lazy values, which are only supplied once
+    assertEquals(2, calls.get());
+  }
+}
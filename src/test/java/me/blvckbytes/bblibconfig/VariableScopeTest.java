@@ -0,0 +1,86 @@
+package me.blvckbytes.bblibconfig;
+
+import me.blvckbytes.bblibconfig.expressions.ExpressionEvaluator;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  Checks that variable scopes look up their layers from the top down
+  without copying them, and that values render within scopes.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class VariableScopeTest {
+
+  @Test
+  public void looksUpLayersTopDown() {
+    VariableScope base = VariableScope.of(Map.of("a", "bottom", "b", "bottom"));
+    VariableScope scope = base.with(Map.of("b", "top"));
+
+    assertEquals("bottom", scope.get("a"));
+    assertEquals("top", scope.get("b"));
+    assertEquals("bottom", base.get("b"));
+    assertNull(scope.get("c"));
+
+    assertTrue(scope.containsKey("a"));
+    assertFalse(scope.containsKey("c"));
+    assertEquals(Map.of("a", "bottom", "b", "top"), new HashMap<>(scope));
+
+    // Scopes are passed on as they are, and empty layers are not added
+    assertSame(scope, VariableScope.of(scope));
+    assertSame(scope, scope.with(Map.of()));
+    assertSame(VariableScope.EMPTY, VariableScope.of(null));
+    assertTrue(VariableScope.EMPTY.isEmpty());
+  }
+
+  @Test
+  public void referencesLayersInsteadOfCopying() {
+    Map<String, String> layer = new HashMap<>(Map.of("a", "before"));
+    VariableScope scope = VariableScope.EMPTY.with(Map.of("b", "other")).with(layer);
+
+    layer.put("a", "after");
+    assertEquals("after", scope.get("a"));
+  }
+
+  @Test
+  public void keepsTypedValuesOfLayers() {
+    VariableMap layer = new VariableMap();
+    layer.putValue("a", VariableValue.of(1.5, null));
+
+    VariableScope scope = VariableScope.of(layer).with(Map.of("b", "top"));
+
+    assertEquals(1.5, scope.getValue("a"));
+    assertEquals("1.50", scope.get("a"));
+    assertEquals("top", scope.getValue("b"));
+    assertNull(scope.getValue("c"));
+  }
+
+  @Test
+  public void rendersWithinScopes() {
+    ConfigValue value = new ConfigValue("{{a}} {{b}}", new ExpressionEvaluator(null), null).withVariable("b", "own");
+
+    assertEquals("scope own", value.renderScalar(VariableScope.of(Map.of("a", "scope"))));
+    assertEquals("scope other", value.renderScalar(VariableScope.of(Map.of("a", "scope", "b", "other"))));
+
+    // The value itself is left untouched
+    assertEquals(value.asScalar(), value.renderScalar(VariableScope.EMPTY));
+  }
+}
@@ -0,0 +1,77 @@
+package me.blvckbytes.bblibconfig;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  Checks that variables keep their typed values, are only supplied
+  once they're accessed and are stringified like before.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class VariableValueTest {
+
+  @Test
+  public void suppliesOnFirstAccessOnly() {
+    AtomicInteger calls = new AtomicInteger();
+    VariableValue value = VariableValue.lazy(() -> {
+      calls.incrementAndGet();
+      return 2.5;
+    }, null);
+
+    assertEquals(0, calls.get());
+
+    assertEquals(2.5, value.getValue());
+    assertEquals("2.50", value.format());
+    assertEquals("2.50", value.format());
+    assertEquals(1, calls.get());
+  }
+
+  @Test
+  public void keepsTypedValues() {
+    Date date = new Date(0);
+
+    assertEquals(5, VariableValue.of(5, null).getValue());
+    assertEquals(1.005, VariableValue.of(1.005, null).getValue());
+    assertSame(date, VariableValue.of(date, null).getValue());
+    assertNull(VariableValue.of(null, null).getValue());
+
+    // Suffixed values are only available as strings
+    assertEquals("3.00 ms", VariableValue.of(3.0, " ms").getValue());
+    assertNull(VariableValue.of(null, " ms").getValue());
+  }
+
+  @Test
+  public void stringifiesLikeBefore() {
+    assertEquals("1.50", VariableValue.of(1.5, null).format());
+    assertEquals("2.25", VariableValue.of(2.25F, null).format());
+    assertEquals("0", VariableValue.of(0.0, null).format());
+    assertEquals("0", VariableValue.of(0F, null).format());
+    assertEquals("7", VariableValue.of(7, null).format());
+    assertEquals("text", VariableValue.of("text", null).format());
+    assertEquals("null", VariableValue.of(null, " ms").format());
+    assertEquals("4 ms", VariableValue.of(4, " ms").format());
+
+    Date date = new Date(1234567890L);
+    assertEquals(VariableValue.stringify(date), VariableValue.of(date, null).format());
+    assertTrue(VariableValue.stringify(date).matches("\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}:\\d{2}\\.\\d{3}"));
+  }
+}
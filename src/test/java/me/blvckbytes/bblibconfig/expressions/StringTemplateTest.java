@@ -0,0 +1,231 @@
+package me.blvckbytes.bblibconfig.expressions;
+
+import me.blvckbytes.bblibconfig.ILutResolver;
+import org.bukkit.ChatColor;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/18/2026
+
+  Checks that compiled templates render exactly like the scanner which substituted
+  variables before templates existed, and that strings which are only rendered
+  once never end up within the evaluator's template caches.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class StringTemplateTest {
+
+  private static final Map<String, String> VARIABLES = Map.of(
+    "name", "Steve",
+    "colored", "&cred",
+    "lines", "first\nsecond",
+    "key", "b",
+    "empty", ""
+  );
+
+  private static final ILutResolver LUTS = name -> Optional.ofNullable(
+    name.equals("table") ? Map.of("a", "&aA", "b", "B", "5", "five") : null
+  );
+
+  // Inputs of all notations, except for lone quotes and reversed brackets, which used to throw
+  private static final List<String> INPUTS = List.of(
+    "",
+    "plain text",
+    "{{name}}",
+    "Hello {{name}}!",
+    "&7Hello &b{{name}}&7, {{colored}} and {{name}}",
+    "&a{{lines}} after",
+    "{{ name }} with spaces",
+    "{{unknown}} stays",
+    "{{\"constant\"}} and {{'single'}}",
+    "{{42}} is numeric",
+    "{{table[a]}} {{table[key]}} {{table[5]}} {{table[\"b\"]}}",
+    "{{table[missing]}} {{missing[a]}}",
+    "{{empty}}|",
+    "{{name}}{{name}}",
+    "{{{name}}}",
+    "{{name}}}",
+    "{{{{name}}",
+    "{{name",
+    "name}}",
+    "{}{{}}",
+    "{{}}",
+    "}}{{name}}{{",
+    "trailing {",
+    "&<#ff0000>gradient {{name}}"
+  );
+
+  @Test
+  public void rendersLikeThePreviousScanner() {
+    for (boolean colors : new boolean[] { false, true }) {
+      for (ILutResolver luts : Arrays.asList(LUTS, null)) {
+        IExpressionDataProvider provider = provider(luts, colors);
+
+        for (String input : INPUTS) {
+          String template = StringTemplate.compile(colors ? StringTemplate.applyColors(input) : input).render(provider);
+          assertEquals(legacySubstitute(input, provider), template, () -> input + " (colors=" + colors + ")");
+        }
+      }
+    }
+  }
+
+  @Test
+  public void rendersOnceWithoutCaching() {
+    ExpressionEvaluator evaluator = new ExpressionEvaluator(null);
+    IExpressionDataProvider provider = provider(LUTS, true);
+
+    for (String input : INPUTS)
+      assertEquals(evaluator.substituteVariables(input, provider), evaluator.substituteVariablesOnce(input, provider));
+
+    int cached = evaluator.getCachedTemplateCount();
+
+    for (int i = 0; i < 100; i++)
+      assertEquals("result " + i + " of Steve", evaluator.substituteVariablesOnce("result " + i + " of {{name}}", provider));
+
+    assertEquals(cached, evaluator.getCachedTemplateCount());
+  }
+
+  //=========================================================================//
+  //                                Utilities                                //
+  //=========================================================================//
+
+  private IExpressionDataProvider provider(@Nullable ILutResolver luts, boolean colors) {
+    return new IExpressionDataProvider() {
+
+      @Override
+      public @Nullable ILutResolver getLutResolver() {
+        return luts;
+      }
+
+      @Override
+      public Map<String, String> getVariables() {
+        return VARIABLES;
+      }
+
+      @Override
+      public boolean areColorsEnabled() {
+        return colors;
+      }
+    };
+  }
+
+  /**
+   * The substitution as it was implemented before strings were compiled into templates
+   * @param input Input string
+   * @param dataProvider Provider of variables and lookup tables
+   * @return Substituted string
+   */
+  private String legacySubstitute(String input, IExpressionDataProvider dataProvider) {
+    if (dataProvider.areColorsEnabled())
+      input = legacyApplyColors(input);
+
+    StringBuilder sb = new StringBuilder();
+
+    int startIndInp = -1, startIndSb = -1;
+    for (int i = 0; i < input.length(); i++) {
+      char c = input.charAt(i);
+
+      sb.append(c);
+
+      if (i == input.length() - 1)
+        break;
+
+      char n = input.charAt(i + 1);
+
+      if (c == '{' && n == '{') {
+        startIndInp = i;
+        startIndSb = sb.length() - 1;
+        continue;
+      }
+
+      if (c == '}' && n == '}' && startIndInp >= 0) {
+        String name = input.substring(startIndInp + 2, i);
+        String value = legacyResolveVariable(name, dataProvider);
+
+        if (value != null) {
+          sb.delete(startIndSb, sb.length());
+
+          String color = ChatColor.getLastColors(sb.toString());
+
+          sb.append(
+            Arrays.stream(value.split("\n"))
+              .collect(Collectors.joining("\n" + color, color, ""))
+          );
+
+          i++;
+        }
+
+        if (i == input.length() - 1)
+          break;
+
+        startIndSb = startIndInp = -1;
+      }
+    }
+
+    return sb.toString();
+  }
+
+  /**
+   * The resolution of variable expressions as it was implemented before templates
+   * @param expr Expression in between the markers
+   * @param dataProvider Provider of variables and lookup tables
+   * @return Resolved value, null if unresolvable
+   */
+  private @Nullable String legacyResolveVariable(String expr, IExpressionDataProvider dataProvider) {
+    expr = expr.trim();
+
+    if (
+      (expr.startsWith("\"") && expr.endsWith("\"")) ||
+      (expr.startsWith("'") && expr.endsWith("'"))
+    )
+      return expr.substring(1, expr.length() - 1);
+
+    if (expr.matches("\\d+"))
+      return expr;
+
+    int indexS = expr.indexOf('['), indexE = expr.indexOf(']');
+
+    if (indexS >= 0 && indexE >= 0 && dataProvider.getLutResolver() != null) {
+      String lutName = expr.substring(0, indexS);
+      String keyName = legacyResolveVariable(expr.substring(indexS + 1, indexE), dataProvider);
+
+      Map<String, String> lut = dataProvider.getLutResolver().getLut(lutName).orElse(null);
+      if (lut == null || keyName == null)
+        return null;
+
+      String res = lut.get(keyName);
+      if (res == null)
+        return null;
+
+      return dataProvider.areColorsEnabled() ? legacyApplyColors(res) : res;
+    }
+
+    String res = dataProvider.getVariables().get(expr);
+    return res == null ? null : (dataProvider.areColorsEnabled() ? legacyApplyColors(res) : res);
+  }
+
+  private String legacyApplyColors(String input) {
+    return input.replaceAll("&([\\da-zklmnor#]|<[#A-Za-z\\d :.]+>)", "§$1");
+  }
+}